@@ -1,61 +1,165 @@
 package com.example.iac_sample_app.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.cloudfront.CloudFrontClient;
-import software.amazon.awssdk.services.ec2.Ec2Client;
-import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
-import software.amazon.awssdk.services.rds.RdsClient;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.cloudfront.CloudFrontAsyncClient;
+import software.amazon.awssdk.services.ec2.Ec2AsyncClient;
+import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2AsyncClient;
+import software.amazon.awssdk.services.rds.RdsAsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
+
+import java.net.URI;
+import java.time.Duration;
 
 /**
  * AWS SDK 클라이언트 설정
+ * 모든 비동기 클라이언트가 하나의 Netty 이벤트 루프/커넥션 풀과 자격 증명 제공자를 공유한다.
  */
 @Configuration
 public class AwsConfig {
 
     private static final Region AWS_REGION = Region.AP_NORTHEAST_2; // Seoul
 
+    @Value("${aws.client.event-loop-threads:2}")
+    private int eventLoopThreads;
+
+    @Value("${aws.client.max-concurrency:50}")
+    private int maxConcurrency;
+
+    @Value("${aws.client.connection-timeout-ms:2000}")
+    private long connectionTimeoutMs;
+
+    @Value("${aws.client.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${aws.client.api-call-timeout-ms:10000}")
+    private long apiCallTimeoutMs;
+
+    @Value("${aws.client.max-retries:3}")
+    private int maxRetries;
+
+    // 자격 증명은 백그라운드에서 갱신하여 요청 경로에서 갱신 대기가 발생하지 않도록 함
+    @Bean(destroyMethod = "close")
+    public DefaultCredentialsProvider awsCredentialsProvider() {
+        return DefaultCredentialsProvider.builder()
+                .asyncCredentialUpdateEnabled(true)
+                .build();
+    }
+
+    // 공유 HTTP 엔진 (클라이언트에 주입된 HTTP 클라이언트는 SDK가 닫지 않으므로 빈 종료 시 닫음)
+    @Bean(destroyMethod = "close")
+    public SdkAsyncHttpClient awsAsyncHttpClient() {
+        return NettyNioAsyncHttpClient.builder()
+                .eventLoopGroupBuilder(SdkEventLoopGroup.builder().numberOfThreads(eventLoopThreads))
+                .maxConcurrency(maxConcurrency)
+                .connectionTimeout(Duration.ofMillis(connectionTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+    }
+
     @Bean
-    public Ec2Client ec2Client() {
-        return Ec2Client.builder()
+    public Ec2AsyncClient ec2Client(SdkAsyncHttpClient awsAsyncHttpClient, AwsCredentialsProvider awsCredentialsProvider) {
+        return Ec2AsyncClient.builder()
                 .region(AWS_REGION)
-                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsAsyncHttpClient)
+                .credentialsProvider(awsCredentialsProvider)
+                .overrideConfiguration(clientOverrideConfiguration())
                 .build();
     }
 
     @Bean
-    public ElasticLoadBalancingV2Client elasticLoadBalancingV2Client() {
-        return ElasticLoadBalancingV2Client.builder()
+    public ElasticLoadBalancingV2AsyncClient elasticLoadBalancingV2Client(SdkAsyncHttpClient awsAsyncHttpClient,
+                                                                          AwsCredentialsProvider awsCredentialsProvider) {
+        return ElasticLoadBalancingV2AsyncClient.builder()
                 .region(AWS_REGION)
-                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsAsyncHttpClient)
+                .credentialsProvider(awsCredentialsProvider)
+                .overrideConfiguration(clientOverrideConfiguration())
                 .build();
     }
 
     @Bean
-    public RdsClient rdsClient() {
-        return RdsClient.builder()
+    public RdsAsyncClient rdsClient(SdkAsyncHttpClient awsAsyncHttpClient, AwsCredentialsProvider awsCredentialsProvider) {
+        return RdsAsyncClient.builder()
                 .region(AWS_REGION)
-                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsAsyncHttpClient)
+                .credentialsProvider(awsCredentialsProvider)
+                .overrideConfiguration(clientOverrideConfiguration())
                 .build();
     }
 
     @Bean
-    public S3Client s3Client() {
-        return S3Client.builder()
+    public S3AsyncClient s3Client(SdkAsyncHttpClient awsAsyncHttpClient, AwsCredentialsProvider awsCredentialsProvider) {
+        return S3AsyncClient.builder()
                 .region(AWS_REGION)
-                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsAsyncHttpClient)
+                .credentialsProvider(awsCredentialsProvider)
+                .overrideConfiguration(clientOverrideConfiguration())
                 .build();
     }
 
     @Bean
-    public CloudFrontClient cloudFrontClient() {
+    public CloudFrontAsyncClient cloudFrontClient(SdkAsyncHttpClient awsAsyncHttpClient,
+                                                  AwsCredentialsProvider awsCredentialsProvider) {
         // CloudFront는 글로벌 서비스이므로 US_EAST_1 리전 사용
-        return CloudFrontClient.builder()
+        return CloudFrontAsyncClient.builder()
                 .region(Region.US_EAST_1)
-                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsAsyncHttpClient)
+                .credentialsProvider(awsCredentialsProvider)
+                .overrideConfiguration(clientOverrideConfiguration())
+                .build();
+    }
+
+    /**
+     * 인프라 변경 이벤트 수신용 SQS 클라이언트 (aws.events.sqs.enabled=true일 때만 생성)
+     * 롱 폴링 대기 시간이 공용 HTTP 엔진의 읽기 제한 시간보다 길기 때문에 전용 HTTP 엔진을 사용하며,
+     * endpoint-override를 지정하면 ElasticMQ 같은 로컬 SQS 호환 서버에 연결한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "aws.events.sqs.enabled", havingValue = "true")
+    public SqsAsyncClient sqsClient(AwsCredentialsProvider awsCredentialsProvider,
+                                    @Value("${aws.events.sqs.endpoint-override:}") String endpointOverride,
+                                    @Value("${aws.events.sqs.wait-time-seconds:20}") int waitTimeSeconds) {
+        SqsAsyncClientBuilder builder = SqsAsyncClient.builder()
+                .region(AWS_REGION)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(4)
+                        .connectionTimeout(Duration.ofMillis(connectionTimeoutMs))
+                        .readTimeout(Duration.ofSeconds(waitTimeSeconds + 10L)))
+                .credentialsProvider(awsCredentialsProvider)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryMode.STANDARD)
+                        .build());
+        if (!endpointOverride.isEmpty()) {
+            builder.endpointOverride(URI.create(endpointOverride));
+        }
+        return builder.build();
+    }
+
+    /**
+     * API 호출 전체(재시도 포함) 제한 시간과 재시도 정책
+     * ADAPTIVE 모드는 지터가 적용된 백오프로 재시도하고, 스로틀링 응답을 받으면
+     * 클라이언트(서비스)별 토큰 버킷으로 요청 속도를 스스로 낮춘다.
+     */
+    private ClientOverrideConfiguration clientOverrideConfiguration() {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMs))
+                .retryPolicy(RetryPolicy.builder(RetryMode.ADAPTIVE)
+                        .numRetries(maxRetries)
+                        .build())
                 .build();
     }
 }
@@ -0,0 +1,17 @@
+package com.example.iac_sample_app.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정
+ * 캐시 크기/TTL은 spring.cache.caffeine.spec으로 설정하며,
+ * 적중/미스/만료 통계는 액추에이터 metrics(cache.*)로 노출된다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 투표 상세 조회 캐시 (key: 투표 ID, value: VoteResponse)
+    public static final String VOTE_DETAILS_CACHE = "voteDetails";
+}
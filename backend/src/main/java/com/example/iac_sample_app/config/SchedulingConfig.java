@@ -0,0 +1,36 @@
+package com.example.iac_sample_app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(@Scheduled) 활성화
+ * 기본 스케줄러(taskScheduler)는 바로 반환하는 작업(비동기 스냅샷 갱신, 인프라 이벤트 발행, SSE heartbeat)만 실행하고,
+ * DB/파일 I/O로 대기하는 투표 작업(유지 작업, 투표 스트림 집계 조회)은 voteMaintenanceScheduler에서 실행해 서로 지연시키지 않는다.
+ * 풀 크기 근거는 application.yml의 spring.task.scheduling.pool.size, vote.maintenance.pool-size 참고
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 투표 유지 작업 스케줄러 (@Scheduled(scheduler = ...)에 지정)
+    public static final String VOTE_MAINTENANCE_SCHEDULER = "voteMaintenanceScheduler";
+
+    // TaskScheduler 빈을 직접 정의하면 Boot 기본 스케줄러가 생성되지 않으므로 spring.task.scheduling 설정으로 직접 생성
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = VOTE_MAINTENANCE_SCHEDULER)
+    public ThreadPoolTaskScheduler voteMaintenanceScheduler(@Value("${vote.maintenance.pool-size:5}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("vote-maintenance-");
+        return scheduler;
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.iac_sample_app.controller;
 
 import com.example.iac_sample_app.dto.*;
-import com.example.iac_sample_app.service.AwsResourceService;
+import com.example.iac_sample_app.service.InfrastructureEventPublisher;
+import com.example.iac_sample_app.service.InfrastructureSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -19,29 +23,33 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ResourceController {
 
-    private final AwsResourceService awsResourceService;
+    private final InfrastructureSnapshotService snapshotService;
+    private final InfrastructureEventPublisher eventPublisher;
 
     /**
      * 전체 인프라 상태 조회 (데모용 메인 API) ㅎㅇ
+     * 백그라운드에서 주기적으로 갱신되는 스냅샷을 반환 (lastUpdated, ageSeconds로 데이터 경과 시간 확인)
+     * 스냅샷 버전을 ETag로 내려주므로 If-None-Match가 일치하면 본문 없이 304로 응답하고,
+     * since 파라미터를 주면 해당 버전 이후 바뀐 섹션만 반환한다.
      */
     @GetMapping("/status")
-    public ResponseEntity<InfrastructureStatusResponse> getInfrastructureStatus() {
-        log.info("인프라 상태 조회 요청");
-        
-        try {
-            InfrastructureStatusResponse status = awsResourceService.getInfrastructureStatus();
-            return ResponseEntity.ok(status);
-        } catch (Exception e) {
-            log.error("인프라 상태 조회 실패", e);
-            
-            InfrastructureStatusResponse errorResponse = InfrastructureStatusResponse.builder()
-                    .status("error")
-                    .message("리소스 정보를 가져오는 중 오류가 발생했습니다")
-                    .lastUpdated(LocalDateTime.now())
-                    .build();
-            
-            return ResponseEntity.ok(errorResponse);
-        }
+    public ResponseEntity<InfrastructureStatusResponse> getInfrastructureStatus(@RequestParam(required = false) Long since) {
+        log.debug("인프라 상태 조회 요청 (since={})", since);
+
+        InfrastructureStatusResponse status = since != null
+                ? snapshotService.getChangesSince(since)
+                : snapshotService.getSnapshot();
+        return withETag(status.getVersion(), status);
+    }
+
+    /**
+     * 인프라 변경 이벤트 스트림 (SSE)
+     * 백그라운드 수집기가 상태 전이를 감지할 때마다 바뀐 리소스 하나의 diff를 이벤트로 전송한다.
+     * (ec2-state-changed, target-health-changed, rds-status-changed 등, 이벤트 ID는 스냅샷 버전)
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return eventPublisher.subscribe(snapshotService.getSnapshot().getVersion());
     }
 
     /**
@@ -71,15 +79,10 @@ public class ResourceController {
      */
     @GetMapping("/ec2")
     public ResponseEntity<List<EC2InfoDto>> getEC2Info() {
-        log.info("EC2 정보 조회 요청");
-        
-        try {
-            List<EC2InfoDto> ec2Info = awsResourceService.getEC2Info();
-            return ResponseEntity.ok(ec2Info);
-        } catch (Exception e) {
-            log.error("EC2 정보 조회 실패", e);
-            return ResponseEntity.ok(List.of()); // 빈 리스트 반환
-        }
+        InfrastructureStatusResponse snapshot = snapshotService.getSnapshot();
+        List<EC2InfoDto> ec2Instances = snapshot.getEc2Instances();
+        return withETag(sectionVersion(snapshot, "ec2"),
+                ec2Instances != null ? ec2Instances : List.of()); // 수집 전이면 빈 리스트 반환
     }
 
     /**
@@ -87,15 +90,8 @@ public class ResourceController {
      */
     @GetMapping("/alb")
     public ResponseEntity<ALBInfoDto> getALBInfo() {
-        log.info("ALB 정보 조회 요청");
-        
-        try {
-            ALBInfoDto albInfo = awsResourceService.getALBInfo();
-            return ResponseEntity.ok(albInfo);
-        } catch (Exception e) {
-            log.error("ALB 정보 조회 실패", e);
-            return ResponseEntity.ok(null);
-        }
+        InfrastructureStatusResponse snapshot = snapshotService.getSnapshot();
+        return withETag(sectionVersion(snapshot, "alb"), snapshot.getLoadBalancer());
     }
 
     /**
@@ -103,15 +99,8 @@ public class ResourceController {
      */
     @GetMapping("/rds")
     public ResponseEntity<RDSInfoDto> getRDSInfo() {
-        log.info("RDS 정보 조회 요청");
-        
-        try {
-            RDSInfoDto rdsInfo = awsResourceService.getRDSInfo();
-            return ResponseEntity.ok(rdsInfo);
-        } catch (Exception e) {
-            log.error("RDS 정보 조회 실패", e);
-            return ResponseEntity.ok(null);
-        }
+        InfrastructureStatusResponse snapshot = snapshotService.getSnapshot();
+        return withETag(sectionVersion(snapshot, "rds"), snapshot.getDatabase());
     }
 
     /**
@@ -119,15 +108,8 @@ public class ResourceController {
      */
     @GetMapping("/s3")
     public ResponseEntity<S3InfoDto> getS3Info() {
-        log.info("S3 정보 조회 요청");
-        
-        try {
-            S3InfoDto s3Info = awsResourceService.getS3Info();
-            return ResponseEntity.ok(s3Info);
-        } catch (Exception e) {
-            log.error("S3 정보 조회 실패", e);
-            return ResponseEntity.ok(null);
-        }
+        InfrastructureStatusResponse snapshot = snapshotService.getSnapshot();
+        return withETag(sectionVersion(snapshot, "s3"), snapshot.getStorage());
     }
 
     /**
@@ -135,15 +117,8 @@ public class ResourceController {
      */
     @GetMapping("/cloudfront")
     public ResponseEntity<CloudFrontInfoDto> getCloudFrontInfo() {
-        log.info("CloudFront 정보 조회 요청");
-        
-        try {
-            CloudFrontInfoDto cloudFrontInfo = awsResourceService.getCloudFrontInfo();
-            return ResponseEntity.ok(cloudFrontInfo);
-        } catch (Exception e) {
-            log.error("CloudFront 정보 조회 실패", e);
-            return ResponseEntity.ok(null);
-        }
+        InfrastructureStatusResponse snapshot = snapshotService.getSnapshot();
+        return withETag(sectionVersion(snapshot, "cloudfront"), snapshot.getCdn());
     }
 
     /**
@@ -151,70 +126,66 @@ public class ResourceController {
      */
     @GetMapping("/vpc")
     public ResponseEntity<VPCInfoDto> getVPCInfo() {
-        log.info("VPC 정보 조회 요청");
-        
-        try {
-            VPCInfoDto vpcInfo = awsResourceService.getVPCInfo();
-            return ResponseEntity.ok(vpcInfo);
-        } catch (Exception e) {
-            log.error("VPC 정보 조회 실패", e);
-            return ResponseEntity.ok(null);
-        }
+        InfrastructureStatusResponse snapshot = snapshotService.getSnapshot();
+        return withETag(sectionVersion(snapshot, "vpc"), snapshot.getNetwork());
     }
 
     /**
-     * 헬스체크 + 리소스 요약 정보
+     * 헬스체크 + 리소스 요약 정보 (스냅샷 기준)
      */
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> getResourceHealth() {
+        InfrastructureStatusResponse snapshot = snapshotService.getSnapshot();
+        List<EC2InfoDto> ec2Instances = snapshot.getEc2Instances() != null ? snapshot.getEc2Instances() : List.of();
+        ALBInfoDto alb = snapshot.getLoadBalancer();
+        RDSInfoDto rds = snapshot.getDatabase();
+        S3InfoDto s3 = snapshot.getStorage();
+
         Map<String, Object> healthStatus = new HashMap<>();
-        
-        try {
-            // 각 리소스의 간단한 상태만 체크
-            List<EC2InfoDto> ec2Instances = awsResourceService.getEC2Info();
-            ALBInfoDto alb = awsResourceService.getALBInfo();
-            RDSInfoDto rds = awsResourceService.getRDSInfo();
-            S3InfoDto s3 = awsResourceService.getS3Info();
-            
-            healthStatus.put("status", "UP");
-            healthStatus.put("timestamp", LocalDateTime.now());
-            
-            Map<String, Object> components = new HashMap<>();
-            components.put("ec2", Map.of(
-                "status", ec2Instances.isEmpty() ? "DOWN" : "UP",
-                "count", ec2Instances.size(),
-                "healthy", ec2Instances.stream().mapToInt(ec2 -> 
-                    "healthy".equals(ec2.getHealthStatus()) ? 1 : 0).sum()
-            ));
-            
-            components.put("alb", Map.of(
-                "status", alb != null ? "UP" : "DOWN",
-                "dns", alb != null ? alb.getDnsName() : "N/A"
-            ));
-            
-            components.put("rds", Map.of(
-                "status", rds != null ? "UP" : "DOWN",
-                "endpoint", rds != null ? rds.getEndpoint() : "N/A"
-            ));
-            
-            components.put("s3", Map.of(
-                "status", s3 != null ? "UP" : "DOWN",
-                "bucket", s3 != null ? s3.getBucketName() : "N/A"
-            ));
-            
-            healthStatus.put("components", components);
-            
-            return ResponseEntity.ok(healthStatus);
-            
-        } catch (Exception e) {
-            log.error("리소스 헬스체크 실패", e);
-            
-            healthStatus.put("status", "DOWN");
-            healthStatus.put("error", e.getMessage());
-            healthStatus.put("timestamp", LocalDateTime.now());
-            
-            return ResponseEntity.ok(healthStatus);
-        }
+        healthStatus.put("status", "UP");
+        healthStatus.put("timestamp", LocalDateTime.now());
+        healthStatus.put("lastUpdated", snapshot.getLastUpdated());
+        healthStatus.put("ageSeconds", snapshot.getAgeSeconds());
+
+        Map<String, Object> components = new HashMap<>();
+        components.put("ec2", Map.of(
+            "status", ec2Instances.isEmpty() ? "DOWN" : "UP",
+            "count", ec2Instances.size(),
+            "healthy", ec2Instances.stream().mapToInt(ec2 -> 
+                "healthy".equals(ec2.getHealthStatus()) ? 1 : 0).sum()
+        ));
+
+        components.put("alb", Map.of(
+            "status", alb != null ? "UP" : "DOWN",
+            "dns", alb != null ? alb.getDnsName() : "N/A"
+        ));
+
+        components.put("rds", Map.of(
+            "status", rds != null ? "UP" : "DOWN",
+            "endpoint", rds != null ? rds.getEndpoint() : "N/A"
+        ));
+
+        components.put("s3", Map.of(
+            "status", s3 != null ? "UP" : "DOWN",
+            "bucket", s3 != null ? s3.getBucketName() : "N/A"
+        ));
+
+        healthStatus.put("components", components);
+
+        return ResponseEntity.ok(healthStatus);
+    }
+
+    // 버전을 ETag로 설정하고 매 요청마다 재검증하도록 하여, 바뀌지 않았으면 304로 응답 (본문 직렬화 생략)
+    private <T> ResponseEntity<T> withETag(long version, T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(String.valueOf(version))
+                .body(body);
+    }
+
+    // 아직 내용이 수집되지 않은 섹션은 버전 0
+    private long sectionVersion(InfrastructureStatusResponse snapshot, String section) {
+        return snapshot.getSectionVersions().getOrDefault(section, 0L);
     }
 
     /**
@@ -1,16 +1,45 @@
 package com.example.iac_sample_app.controller;
 
+import com.example.iac_sample_app.dto.BulkCreateVoteRequest;
+import com.example.iac_sample_app.dto.CreateVoteRequest;
+import com.example.iac_sample_app.dto.VotePageResponse;
+import com.example.iac_sample_app.dto.VoteResponse;
+import com.example.iac_sample_app.service.VoteDeduplicator;
+import com.example.iac_sample_app.service.VoteParticipantCounter;
+import com.example.iac_sample_app.service.VoteStore;
+import com.example.iac_sample_app.service.VoteStreamPublisher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @RestController
 @RequestMapping("/api/votes")
 @CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
 public class VoteController {
 
-    // 임시 데이터 (실제로는 DB 연동) adadsdfasfasdfasdfasdfssddd
-    private List<Map<String, Object>> votes = new ArrayList<>();
-    private Long nextId = 1L;
+    // 투표자 식별 토큰 (헤더 우선, 없으면 쿠키, 1인 1표 제한이나 고유 참여자 추정 시 둘 다 없으면 새 쿠키 발급)
+    private static final String VOTER_TOKEN_HEADER = "X-Voter-Token";
+    private static final String VOTER_TOKEN_COOKIE = "voter_token";
+
+    private final VoteStore voteStore;
+    private final VoteStreamPublisher voteStreamPublisher;
+    private final VoteDeduplicator voteDeduplicator;
+    private final VoteParticipantCounter voteParticipantCounter;
 
     @GetMapping("/health")
     public Map<String, String> health() {
@@ -21,85 +50,98 @@ public class VoteController {
         return response;
     }
 
+    // 활성 투표 목록 (최신순 페이지, 응답의 nextCursorCreatedAt/nextCursorId를 다음 요청에 전달)
     @GetMapping
-    public List<Map<String, Object>> getAllVotes() {
-        return votes;
+    public VotePageResponse getActiveVotes(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        VotePageResponse page = voteStore.findPage(cursorCreatedAt, cursorId, size);
+        page.setVotes(voteParticipantCounter.annotate(page.getVotes()));
+        return page;
     }
 
     @GetMapping("/{id}")
-    public Map<String, Object> getVoteById(@PathVariable Long id) {
-        return votes.stream()
-                .filter(vote -> vote.get("id").equals(id))
-                .findFirst()
-                .orElse(null);
+    public VoteResponse getVoteById(@PathVariable Long id) {
+        return voteParticipantCounter.annotate(voteStore.findById(id));
     }
 
     @PostMapping
-    public Map<String, Object> createVote(@RequestBody Map<String, Object> request) {
-        Map<String, Object> vote = new HashMap<>();
-        vote.put("id", nextId++);
-        vote.put("question", request.get("question"));
-        vote.put("description", request.get("description"));
-        vote.put("totalVotes", 0);
-        vote.put("active", true);
-        vote.put("createdAt", new Date());
-
-        // 옵션 생성
-        List<Map<String, Object>> options = new ArrayList<>();
-        @SuppressWarnings("unchecked")
-        List<String> requestOptions = (List<String>) request.get("options");
-
-        for (int i = 0; i < requestOptions.size(); i++) {
-            Map<String, Object> option = new HashMap<>();
-            option.put("id", (long)(i + 1));
-            option.put("optionText", requestOptions.get(i));
-            option.put("voteCount", 0);
-            option.put("percentage", 0.0);
-            options.add(option);
-        }
-        vote.put("options", options);
+    public VoteResponse createVote(@Valid @RequestBody CreateVoteRequest request) {
+        return voteStore.create(request);
+    }
+
+    // 여러 투표 일괄 생성 (DB 저장소는 배치 INSERT로 저장)
+    @PostMapping("/bulk")
+    public List<VoteResponse> createVotes(@Valid @RequestBody BulkCreateVoteRequest request) {
+        return voteStore.createAll(request.getVotes());
+    }
+
+    // NDJSON 투표 가져오기 (요청 본문을 한 줄씩 읽어 청크 단위로 DB에 저장, memory 저장소는 501)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Map<String, Object> importVotes(HttpServletRequest request) throws IOException {
+        return Map.of("imported", voteStore.importVotes(request.getInputStream()));
+    }
 
-        votes.add(vote);
-        return vote;
+    // NDJSON 투표 내보내기 (DB 기준, 옵션별 집계 포함, 응답을 스트리밍으로 전송, memory 저장소는 501)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportVotes() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(voteStore::exportVotes);
     }
 
     @PostMapping("/{voteId}/options/{optionId}")
-    public Map<String, Object> castVote(@PathVariable Long voteId, @PathVariable Long optionId) {
-        // 투표 찾기
-        Map<String, Object> vote = votes.stream()
-                .filter(v -> v.get("id").equals(voteId))
-                .findFirst()
-                .orElse(null);
-
-        if (vote == null) {
-            throw new RuntimeException("투표를 찾을 수 없습니다: " + voteId);
-        }
+    public VoteResponse castVote(@PathVariable Long voteId, @PathVariable Long optionId,
+                                 @RequestHeader(name = VOTER_TOKEN_HEADER, required = false) String voterHeader,
+                                 @CookieValue(name = VOTER_TOKEN_COOKIE, required = false) String voterCookie,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) {
+        String voterToken = voterToken(voterHeader, voterCookie, response);
+        VoteResponse vote = voteDeduplicator.castOnce(voteId, optionId, voterToken,
+                () -> voteStore.cast(voteId, optionId));
+        voteParticipantCounter.record(voteId, voterToken, clientIp(request));
+        voteStreamPublisher.onVoteCast(voteId);
+        return voteParticipantCounter.annotate(vote);
+    }
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> options = (List<Map<String, Object>>) vote.get("options");
+    // 투표 결과 실시간 스트림 (SSE, 변경분을 모아 주기적으로 전송)
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVote(@PathVariable Long id) {
+        return voteStreamPublisher.subscribe(id);
+    }
 
-        // 선택된 옵션 찾기 및 투표수 증가
-        for (Map<String, Object> option : options) {
-            if (option.get("id").equals(optionId)) {
-                int currentVotes = (Integer) option.get("voteCount");
-                option.put("voteCount", currentVotes + 1);
-                break;
-            }
+    private String voterToken(String voterHeader, String voterCookie, HttpServletResponse response) {
+        if (voterHeader != null && !voterHeader.isBlank()) {
+            return voterHeader;
         }
-
-        // 총 투표수 계산
-        int totalVotes = options.stream()
-                .mapToInt(option -> (Integer) option.get("voteCount"))
-                .sum();
-        vote.put("totalVotes", totalVotes);
-
-        // 퍼센티지 다시 계산
-        for (Map<String, Object> option : options) {
-            int voteCount = (Integer) option.get("voteCount");
-            double percentage = totalVotes > 0 ? (double) voteCount / totalVotes * 100 : 0.0;
-            option.put("percentage", Math.round(percentage * 100.0) / 100.0);
+        if (voterCookie != null && !voterCookie.isBlank()) {
+            return voterCookie;
         }
+        // 1인 1표 제한이나 고유 투표자 추정에 쓰이므로 둘 중 하나라도 켜져 있으면 발급
+        // (쿠키를 저장하지 않는 클라이언트는 요청마다 새 토큰을 받으므로 중복 투표가 걸러지지 않음)
+        if (!voteDeduplicator.isEnabled() && !voteParticipantCounter.isEnabled()) {
+            return null;
+        }
+
+        String token = UUID.randomUUID().toString();
+        ResponseCookie cookie = ResponseCookie.from(VOTER_TOKEN_COOKIE, token)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(Duration.ofDays(365))
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        return token;
+    }
 
-        return vote;
+    // ALB는 접속한 주소를 X-Forwarded-For 끝에 덧붙이므로 마지막 주소를 사용
+    // (앞쪽 주소는 클라이언트가 임의로 보낸 값일 수 있어 고유 IP 추정을 부풀릴 수 있음)
+    private static String clientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+        }
+        return request.getRemoteAddr();
     }
 }
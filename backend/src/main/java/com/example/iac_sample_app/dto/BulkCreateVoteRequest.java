@@ -0,0 +1,16 @@
+package com.example.iac_sample_app.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkCreateVoteRequest {
+
+    @NotEmpty(message = "생성할 투표가 없습니다")
+    @Size(max = 100, message = "한 번에 최대 100개의 투표만 생성할 수 있습니다")
+    private List<@Valid CreateVoteRequest> votes;
+}
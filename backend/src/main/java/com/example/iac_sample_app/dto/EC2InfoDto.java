@@ -10,7 +10,7 @@ import java.util.Map;
  * EC2 인스턴스 정보 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class EC2InfoDto {
     
     /**
@@ -0,0 +1,50 @@
+package com.example.iac_sample_app.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인프라 상태 변경 이벤트 DTO (SSE로 전송)
+ * 전체 스냅샷 대신 바뀐 리소스 하나의 이전/현재 상태만 담는다.
+ */
+@Data
+@Builder
+public class InfrastructureChangeEvent {
+
+    /**
+     * 이벤트 종류 (ec2-state-changed, target-health-changed, rds-status-changed 등)
+     */
+    private String type;
+
+    /**
+     * 스냅샷 섹션 (ec2, alb, rds, s3, cloudfront, vpc)
+     */
+    private String section;
+
+    /**
+     * 대상 리소스 ID (인스턴스 ID, Target Group 이름/타겟 ID 등)
+     */
+    private String resourceId;
+
+    /**
+     * 이전 상태 (새로 생긴 리소스면 null)
+     */
+    private String previous;
+
+    /**
+     * 현재 상태 (사라진 리소스면 null)
+     */
+    private String current;
+
+    /**
+     * 변경이 반영된 스냅샷 버전
+     */
+    private Long version;
+
+    /**
+     * 변경 감지 시간
+     */
+    private LocalDateTime detectedAt;
+}
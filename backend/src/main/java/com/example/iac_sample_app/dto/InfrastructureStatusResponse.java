@@ -3,18 +3,22 @@ package com.example.iac_sample_app.dto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 전체 인프라 상태를 담는 응답 DTO
+ * 백그라운드 수집기가 갱신하는 불변 스냅샷으로 사용되므로, 값을 바꿀 때는 toBuilder()로 새 객체를 만든다.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class InfrastructureStatusResponse {
     
     /**
-     * 전체 상태 ("connecting", "connected", "error")
+     * 전체 상태 ("connecting", "connected", "partial", "error")
      */
     private String status;
     
@@ -24,10 +28,31 @@ public class InfrastructureStatusResponse {
     private String message;
     
     /**
-     * 마지막 업데이트 시간
+     * 스냅샷 버전 (내용이 바뀔 때마다 증가, ETag와 since 조회 기준)
+     */
+    private Long version;
+    
+    /**
+     * 섹션별 마지막으로 내용이 바뀐 버전 (섹션명 -> 버전)
+     */
+    private Map<String, Long> sectionVersions;
+    
+    /**
+     * since 조회 시 해당 버전 이후 바뀐 섹션 목록 (목록에 없는 섹션은 null로 응답)
+     * 전체 조회 시에는 null
+     */
+    private List<String> changedSections;
+    
+    /**
+     * 마지막 업데이트 시간 (어느 섹션이든 가장 최근에 갱신된 시간)
      */
     private LocalDateTime lastUpdated;
     
+    /**
+     * 섹션별 마지막 갱신 성공 시간 (섹션명 -> 시간)
+     */
+    private Map<String, LocalDateTime> sectionUpdatedAt;
+    
     /**
      * EC2 인스턴스들
      */
@@ -58,12 +83,46 @@ public class InfrastructureStatusResponse {
      */
     private VPCInfoDto network;
     
+    /**
+     * 조회에 실패했거나 시간 초과된 섹션별 오류 (섹션명 -> 오류 메시지)
+     */
+    private Map<String, String> sectionErrors;
+    
+    /**
+     * AWS 서비스별 회로 차단기 상태 (서비스명 -> CLOSED/OPEN/HALF_OPEN)
+     * OPEN인 서비스의 섹션은 마지막으로 정상 조회된 값을 제공한다.
+     */
+    private Map<String, String> circuitBreakers;
+    
     /**
      * 연결 진행률 (0-100)
      */
     @Builder.Default
     private Integer progress = 100;
     
+    /**
+     * 마지막 업데이트 이후 경과 시간 (초, 응답 시점 기준)
+     */
+    public Long getAgeSeconds() {
+        return lastUpdated != null ? ageSeconds(lastUpdated) : null;
+    }
+    
+    /**
+     * 섹션별 데이터 경과 시간 (초, 응답 시점 기준)
+     */
+    public Map<String, Long> getSectionAgeSeconds() {
+        if (sectionUpdatedAt == null) {
+            return null;
+        }
+        Map<String, Long> ages = new TreeMap<>();
+        sectionUpdatedAt.forEach((section, updatedAt) -> ages.put(section, ageSeconds(updatedAt)));
+        return ages;
+    }
+    
+    private static long ageSeconds(LocalDateTime updatedAt) {
+        return Math.max(0, Duration.between(updatedAt, LocalDateTime.now()).getSeconds());
+    }
+    
     /**
      * 전체 리소스 개수 (요약용)
      */
@@ -0,0 +1,33 @@
+package com.example.iac_sample_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표 내보내기용 프로젝션 (투표 x 옵션 한 행, 투표 ID/옵션 ID 순으로 스트리밍)
+ */
+@Data
+@AllArgsConstructor
+public class VoteExportRowDto {
+
+    private Long voteId;
+    private String question;
+    private String description;
+    private Integer totalVotes;
+    private LocalDateTime createdAt;
+    private Boolean active;
+    private Long optionId;
+    private String optionText;
+    private Integer voteCount;
+
+    public VoteSummaryDto toSummary() {
+        return new VoteSummaryDto(voteId, question, description, totalVotes, createdAt, active);
+    }
+
+    // 옵션이 없는 투표면 null
+    public VoteOptionCountDto toOption() {
+        return optionId != null ? new VoteOptionCountDto(voteId, optionId, optionText, voteCount) : null;
+    }
+}
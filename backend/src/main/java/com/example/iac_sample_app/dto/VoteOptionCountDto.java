@@ -0,0 +1,17 @@
+package com.example.iac_sample_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 투표 목록 조회용 옵션 프로젝션 (여러 투표의 옵션을 한 번에 조회)
+ */
+@Data
+@AllArgsConstructor
+public class VoteOptionCountDto {
+
+    private Long voteId;
+    private Long id;
+    private String optionText;
+    private Integer voteCount;
+}
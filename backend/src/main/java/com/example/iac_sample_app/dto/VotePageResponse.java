@@ -0,0 +1,31 @@
+package com.example.iac_sample_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 투표 목록 페이지 응답 (createdAt, id 키셋 커서)
+ */
+@Data
+@AllArgsConstructor
+public class VotePageResponse {
+
+    // 한 페이지 최대 크기
+    public static final int MAX_SIZE = 100;
+
+    private List<VoteResponse> votes;
+
+    // 다음 페이지 요청 시 전달할 커서 (마지막 항목의 createdAt, id)
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+
+    private boolean hasNext;
+
+    // 요청한 페이지 크기를 1 ~ MAX_SIZE로 제한
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+}
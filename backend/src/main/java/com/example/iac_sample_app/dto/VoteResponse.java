@@ -4,7 +4,9 @@ import com.example.iac_sample_app.entity.Vote;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Data
@@ -17,6 +19,9 @@ public class VoteResponse {
     private int totalVotes;
     private LocalDateTime createdAt;
     private boolean active;
+    // 고유 투표자/고유 IP 수 (HyperLogLog 추정값, 오차 약 2%)
+    private long uniqueVoters;
+    private long uniqueIps;
 
     @Data
     public static class VoteOptionResponse {
@@ -33,13 +38,62 @@ public class VoteResponse {
         }
     }
 
+    // DB에 아직 반영되지 않은 옵션별 투표 수를 더한 새 스냅샷
+    // (write-behind 투표 응답 생성용, 캐시에는 저장하지 않으며 기존 객체는 변경하지 않음)
+    public VoteResponse withPendingCasts(ToIntFunction<Long> pendingCasts) {
+        VoteResponse response = new VoteResponse();
+        response.setId(id);
+        response.setQuestion(question);
+        response.setDescription(description);
+        response.setCreatedAt(createdAt);
+        response.setActive(active);
+
+        int[] voteCounts = new int[options.size()];
+        int newTotalVotes = totalVotes;
+        for (int i = 0; i < voteCounts.length; i++) {
+            int pending = pendingCasts.applyAsInt(options.get(i).getId());
+            voteCounts[i] = options.get(i).getVoteCount() + pending;
+            newTotalVotes += pending;
+        }
+
+        List<VoteOptionResponse> newOptions = new ArrayList<>(voteCounts.length);
+        for (int i = 0; i < voteCounts.length; i++) {
+            VoteOptionResponse option = options.get(i);
+            newOptions.add(new VoteOptionResponse(
+                    option.getId(),
+                    option.getOptionText(),
+                    voteCounts[i],
+                    newTotalVotes > 0 ? (double) voteCounts[i] / newTotalVotes * 100 : 0.0));
+        }
+        response.setTotalVotes(newTotalVotes);
+        response.setOptions(newOptions);
+        return response;
+    }
+
+    // 고유 참여자 추정값을 반영한 새 스냅샷 (기존 객체는 변경하지 않음)
+    public VoteResponse withParticipants(long uniqueVoters, long uniqueIps) {
+        VoteResponse response = new VoteResponse();
+        response.setId(id);
+        response.setQuestion(question);
+        response.setDescription(description);
+        response.setOptions(options);
+        response.setTotalVotes(totalVotes);
+        response.setCreatedAt(createdAt);
+        response.setActive(active);
+        response.setUniqueVoters(uniqueVoters);
+        response.setUniqueIps(uniqueIps);
+        return response;
+    }
+
     // Entity -> DTO 변환
     public static VoteResponse from(Vote vote) {
         VoteResponse response = new VoteResponse();
         response.setId(vote.getId());
         response.setQuestion(vote.getQuestion());
         response.setDescription(vote.getDescription());
-        response.setTotalVotes(vote.getTotalVotes());
+        // 총 투표수는 votes.total_votes 컬럼 값을 한 번만 읽어 비율 계산에 재사용
+        int totalVotes = vote.getTotalVotes();
+        response.setTotalVotes(totalVotes);
         response.setCreatedAt(vote.getCreatedAt());
         response.setActive(vote.getActive());
 
@@ -48,7 +102,30 @@ public class VoteResponse {
                         option.getId(),
                         option.getOptionText(),
                         option.getVoteCount(),
-                        option.getPercentage()
+                        totalVotes > 0 ? (double) option.getVoteCount() / totalVotes * 100 : 0.0
+                ))
+                .collect(Collectors.toList()));
+
+        return response;
+    }
+
+    // 목록 프로젝션 -> DTO 변환
+    public static VoteResponse of(VoteSummaryDto summary, List<VoteOptionCountDto> options) {
+        VoteResponse response = new VoteResponse();
+        response.setId(summary.getId());
+        response.setQuestion(summary.getQuestion());
+        response.setDescription(summary.getDescription());
+        response.setCreatedAt(summary.getCreatedAt());
+        response.setActive(summary.getActive());
+
+        int totalVotes = summary.getTotalVotes();
+        response.setTotalVotes(totalVotes);
+        response.setOptions(options.stream()
+                .map(option -> new VoteOptionResponse(
+                        option.getId(),
+                        option.getOptionText(),
+                        option.getVoteCount(),
+                        totalVotes > 0 ? (double) option.getVoteCount() / totalVotes * 100 : 0.0
                 ))
                 .collect(Collectors.toList()));
 
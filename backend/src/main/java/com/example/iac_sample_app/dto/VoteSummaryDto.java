@@ -0,0 +1,21 @@
+package com.example.iac_sample_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표 목록 조회용 프로젝션 (옵션 제외)
+ */
+@Data
+@AllArgsConstructor
+public class VoteSummaryDto {
+
+    private Long id;
+    private String question;
+    private String description;
+    private Integer totalVotes;
+    private LocalDateTime createdAt;
+    private Boolean active;
+}
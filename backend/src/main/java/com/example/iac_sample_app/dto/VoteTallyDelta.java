@@ -0,0 +1,28 @@
+package com.example.iac_sample_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 실시간 투표 결과 스트림 이벤트
+ * 직전 전송 이후 투표수가 바뀐 옵션만 담는다 (첫 이벤트는 전체 옵션).
+ */
+@Data
+@AllArgsConstructor
+public class VoteTallyDelta {
+
+    private Long voteId;
+    private long totalVotes;
+    private List<OptionDelta> options;
+
+    @Data
+    @AllArgsConstructor
+    public static class OptionDelta {
+        private Long id;
+        private long voteCount;
+        private long delta;
+        private double percentage;
+    }
+}
@@ -11,14 +11,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "votes")
+@Table(name = "votes", indexes = {
+        // 활성 투표 최신순 키셋 페이지네이션용
+        @Index(name = "idx_votes_active_created_at_id", columnList = "active, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Vote {
 
+    // 풀링 시퀀스 ID (한 번의 조회로 50개를 할당받아 INSERT를 JDBC 배치로 묶을 수 있음, MySQL에서는 테이블로 에뮬레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_id_generator")
+    @SequenceGenerator(name = "vote_id_generator", sequenceName = "votes_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -37,10 +42,12 @@ public class Vote {
     @Column(nullable = false)
     private Boolean active = true;
 
-    // 총 투표수 계산
-    public int getTotalVotes() {
-        return options.stream()
-                .mapToInt(VoteOption::getVoteCount)
-                .sum();
-    }
+    // 총 투표수 (옵션 투표수 증가와 같은 트랜잭션에서 함께 증가시키는 비정규화 컬럼)
+    @Column(name = "total_votes", nullable = false)
+    private Integer totalVotes = 0;
+
+    // 분산 카운터 샤드 수 (0이면 미사용, 투표가 몰리면 ShardedVoteCounter가 설정)
+    // 사용 중에는 옵션별 투표수와 총 투표수에 vote_option_shards 합계를 더해야 최신 값
+    @Column(name = "counter_shards", nullable = false)
+    private Integer counterShards = 0;
 }
@@ -0,0 +1,47 @@
+package com.example.iac_sample_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 투표자별 투표 기록 (투표자당 1표 제한)
+ * (vote_id, voter_key) 기본 키가 unique 인덱스 역할을 하여, 메모리 필터가 놓친 중복 투표도 INSERT에서 거절된다.
+ * 투표자 토큰은 저장하지 않고 SHA-256 해시(hex)만 저장한다.
+ */
+@Entity
+@Table(name = "vote_casts")
+@IdClass(VoteCast.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteCast {
+
+    @Id
+    @Column(name = "vote_id")
+    private Long voteId;
+
+    @Id
+    @Column(name = "voter_key", length = 64)
+    private String voterKey;
+
+    @Column(name = "option_id", nullable = false)
+    private Long optionId;
+
+    @Column(name = "cast_at", nullable = false)
+    private LocalDateTime castAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long voteId;
+        private String voterKey;
+    }
+}
@@ -13,8 +13,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class VoteOption {
 
+    // Vote와 같은 풀링 시퀀스 ID (옵션 INSERT도 배치로 전송)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_option_id_generator")
+    @SequenceGenerator(name = "vote_option_id_generator", sequenceName = "vote_options_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -35,9 +37,10 @@ public class VoteOption {
 
     // 투표 비율 계산
     public double getPercentage() {
-        if (vote.getTotalVotes() == 0) {
+        int totalVotes = vote.getTotalVotes();
+        if (totalVotes == 0) {
             return 0.0;
         }
-        return (double) voteCount / vote.getTotalVotes() * 100;
+        return (double) voteCount / totalVotes * 100;
     }
 }
@@ -0,0 +1,47 @@
+package com.example.iac_sample_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 옵션별 분산 투표수 카운터 (옵션 하나에 샤드 N개)
+ * 투표가 몰린 투표는 임의의 샤드 행을 증가시켜 vote_options/votes 행 락 경합을 피하고,
+ * 조회 시 샤드 합계를 더하며 주기적으로 vote_options/votes에 합산(compaction)한다.
+ */
+@Entity
+@Table(name = "vote_option_shards", indexes = {
+        @Index(name = "idx_vote_option_shards_vote_id", columnList = "vote_id")
+})
+@IdClass(VoteOptionShard.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteOptionShard {
+
+    @Id
+    @Column(name = "option_id")
+    private Long optionId;
+
+    @Id
+    private Integer shard;
+
+    @Column(name = "vote_id", nullable = false)
+    private Long voteId;
+
+    @Column(name = "vote_count", nullable = false)
+    private Integer voteCount = 0;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long optionId;
+        private Integer shard;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.iac_sample_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 투표별 고유 참여자 HyperLogLog 스케치 (투표 ID로 votes와 1:1)
+ * 투표 목록/상세 조회가 스케치 바이트를 함께 읽지 않도록 votes와 분리한 테이블에 저장한다.
+ * 인스턴스마다 메모리 스케치를 주기적으로 이 행과 병합(레지스터별 최댓값)해 기록한다.
+ */
+@Entity
+@Table(name = "vote_participants")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteParticipants {
+
+    // 저장할 수 있는 최대 HyperLogLog precision (스케치 크기 = 1바이트 헤더 + 2^precision 레지스터)
+    public static final int MAX_PRECISION = 12;
+    private static final int MAX_SKETCH_BYTES = (1 << MAX_PRECISION) + 1;
+
+    @Id
+    @Column(name = "vote_id")
+    private Long voteId;
+
+    // 고유 투표자 (투표자 토큰 기준)
+    @Column(name = "voters_sketch", nullable = false, length = MAX_SKETCH_BYTES)
+    private byte[] votersSketch;
+
+    // 고유 IP
+    @Column(name = "ips_sketch", nullable = false, length = MAX_SKETCH_BYTES)
+    private byte[] ipsSketch;
+}
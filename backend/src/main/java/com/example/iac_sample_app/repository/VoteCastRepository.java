@@ -0,0 +1,28 @@
+package com.example.iac_sample_app.repository;
+
+import com.example.iac_sample_app.entity.VoteCast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface VoteCastRepository extends JpaRepository<VoteCast, VoteCast.Key> {
+
+    // 투표 기록 INSERT (이미 있으면 기본 키 중복으로 DataIntegrityViolationException)
+    // save()는 ID가 지정된 엔티티를 먼저 SELECT하므로 네이티브 INSERT로 조회 없이 한 번에 처리
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO vote_casts (vote_id, voter_key, option_id, cast_at) " +
+                   "VALUES (:voteId, :voterKey, :optionId, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int insertCast(Long voteId, String voterKey, Long optionId);
+
+    boolean existsByVoteIdAndVoterKey(Long voteId, String voterKey);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VoteCast c WHERE c.voteId = :voteId AND c.voterKey = :voterKey")
+    int deleteCast(Long voteId, String voterKey);
+}
@@ -0,0 +1,15 @@
+package com.example.iac_sample_app.repository;
+
+import com.example.iac_sample_app.dto.VoteExportRowDto;
+
+import java.util.stream.Stream;
+
+/**
+ * 내보내기용 스트리밍 조회 (fetch size를 설정값으로 지정해야 하므로 VoteRepository에서 분리한 구현 조각)
+ */
+public interface VoteExportRepository {
+
+    // 전체 투표와 옵션 스트리밍 (결과 전체를 메모리에 올리지 않음)
+    // 호출자는 트랜잭션 안에서 사용하고 스트림을 닫아야 하며, 스트림을 닫기 전에는 같은 연결로 다른 쿼리를 실행할 수 없음
+    Stream<VoteExportRowDto> streamExportRows();
+}
@@ -0,0 +1,37 @@
+package com.example.iac_sample_app.repository;
+
+import com.example.iac_sample_app.dto.VoteExportRowDto;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+/**
+ * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE인 쿼리만 행 단위로 스트리밍하고, 그 외에는 결과 전체를 메모리에 올린다.
+ * 서버 커서(useCursorFetch)는 모든 쿼리를 서버 측 prepared statement로 바꾸므로 쓰지 않고 이 쿼리에만 힌트를 준다.
+ * H2 등 음수 fetch size를 허용하지 않는 DB에서는 vote.export.fetch-size를 양수로 설정한다.
+ */
+class VoteExportRepositoryImpl implements VoteExportRepository {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    VoteExportRepositoryImpl(EntityManager entityManager,
+                             @Value("${vote.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<VoteExportRowDto> streamExportRows() {
+        return entityManager.createQuery(
+                        "SELECT new com.example.iac_sample_app.dto.VoteExportRowDto(" +
+                        "v.id, v.question, v.description, v.totalVotes, v.createdAt, v.active, " +
+                        "o.id, o.optionText, o.voteCount) " +
+                        "FROM Vote v LEFT JOIN v.options o " +
+                        "ORDER BY v.id, o.id", VoteExportRowDto.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
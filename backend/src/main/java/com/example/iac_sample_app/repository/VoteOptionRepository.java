@@ -1,9 +1,62 @@
 package com.example.iac_sample_app.repository;
 
+import com.example.iac_sample_app.dto.VoteOptionCountDto;
 import com.example.iac_sample_app.entity.VoteOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface VoteOptionRepository extends JpaRepository<VoteOption, Long> {
+
+    // 옵션 투표수와 총 투표수를 한 트랜잭션에서 함께 증가 (투표 -> 옵션 순서로 락 획득)
+    // 활성 여부는 투표 행을 갱신하며 확인하므로, 공유 락으로 읽은 뒤 배타 락으로 승격하는 경로가 없음
+    @Transactional
+    default int incrementVoteCounts(Long voteId, Long optionId) {
+        if (incrementActiveTotalVotes(voteId) == 0) {
+            return 0;
+        }
+        int updated = incrementVoteCount(voteId, optionId);
+        if (updated == 0) {
+            // 다른 투표의 옵션이면 총 투표수 증가를 되돌림 (이미 락을 잡은 행)
+            incrementTotalVotes(voteId, -1);
+        }
+        return updated;
+    }
+
+    // 활성 투표의 총 투표수 1 증가 (반영된 행이 없으면 없거나 비활성화된 투표)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Vote v SET v.totalVotes = v.totalVotes + 1 WHERE v.id = :voteId AND v.active = true")
+    int incrementActiveTotalVotes(Long voteId);
+
+    // 투표수 원자적 증가 (엔티티 로딩 없이 DB에서 직접 +1, 해당 투표의 옵션일 때만 반영)
+    @Transactional
+    @Modifying
+    @Query("UPDATE VoteOption o SET o.voteCount = o.voteCount + 1 " +
+           "WHERE o.id = :optionId AND o.vote.id = :voteId")
+    int incrementVoteCount(Long voteId, Long optionId);
+
+    // 총 투표수 원자적 증가
+    @Transactional
+    @Modifying
+    @Query("UPDATE Vote v SET v.totalVotes = v.totalVotes + :delta WHERE v.id = :voteId")
+    int incrementTotalVotes(Long voteId, int delta);
+
+    // 옵션 투표수에 합산 (샤드 compaction용, 호출자 트랜잭션에서 실행)
+    @Modifying
+    @Query("UPDATE VoteOption o SET o.voteCount = o.voteCount + :delta WHERE o.id = :optionId")
+    int addVoteCount(Long optionId, int delta);
+
+    // 여러 투표의 옵션을 한 번에 조회 (투표별 지연 로딩으로 인한 N+1 방지)
+    @Query("SELECT new com.example.iac_sample_app.dto.VoteOptionCountDto(" +
+           "o.vote.id, o.id, o.optionText, o.voteCount) " +
+           "FROM VoteOption o WHERE o.vote.id IN :voteIds " +
+           "ORDER BY o.vote.id, o.id")
+    List<VoteOptionCountDto> findOptionCountsByVoteIds(Collection<Long> voteIds);
 }
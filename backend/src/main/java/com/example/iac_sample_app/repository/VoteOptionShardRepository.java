@@ -0,0 +1,46 @@
+package com.example.iac_sample_app.repository;
+
+import com.example.iac_sample_app.entity.VoteOptionShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VoteOptionShardRepository extends JpaRepository<VoteOptionShard, VoteOptionShard.Key> {
+
+    // 샤드 하나만 원자적으로 증가 (투표의 옵션 샤드일 때만 반영, 옵션/투표 행은 조회하거나 갱신하지 않음)
+    // 활성 여부는 호출자(ShardedVoteCounter)가 메모리에서 확인
+    @Transactional
+    @Modifying
+    @Query("UPDATE VoteOptionShard s SET s.voteCount = s.voteCount + 1 " +
+           "WHERE s.optionId = :optionId AND s.shard = :shard AND s.voteId = :voteId")
+    int incrementShard(Long voteId, Long optionId, int shard);
+
+    // 투표의 모든 옵션에 샤드 행 하나씩 생성
+    @Modifying
+    @Query(value = "INSERT INTO vote_option_shards (option_id, shard, vote_id, vote_count) " +
+                   "SELECT o.id, :shard, o.vote_id, 0 FROM vote_options o WHERE o.vote_id = :voteId",
+           nativeQuery = true)
+    int createShards(Long voteId, int shard);
+
+    // 여러 투표의 옵션별 샤드 합계 [voteId, optionId, sum]
+    @Query("SELECT s.voteId, s.optionId, SUM(s.voteCount) FROM VoteOptionShard s " +
+           "WHERE s.voteId IN :voteIds GROUP BY s.voteId, s.optionId")
+    List<Object[]> sumByVoteIds(Collection<Long> voteIds);
+
+    // compaction 동안 샤드 증가를 막기 위해 투표의 샤드 행을 모두 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM VoteOptionShard s WHERE s.voteId = :voteId")
+    List<VoteOptionShard> lockByVoteId(Long voteId);
+
+    @Modifying
+    @Query("UPDATE VoteOptionShard s SET s.voteCount = 0 WHERE s.voteId = :voteId AND s.voteCount > 0")
+    int resetByVoteId(Long voteId);
+}
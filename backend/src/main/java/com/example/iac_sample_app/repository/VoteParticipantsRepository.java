@@ -0,0 +1,17 @@
+package com.example.iac_sample_app.repository;
+
+import com.example.iac_sample_app.entity.VoteParticipants;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VoteParticipantsRepository extends JpaRepository<VoteParticipants, Long> {
+
+    // 스케치 병합 동안 다른 인스턴스의 병합을 막기 위해 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM VoteParticipants p WHERE p.voteId = :voteId")
+    VoteParticipants lockById(Long voteId);
+}
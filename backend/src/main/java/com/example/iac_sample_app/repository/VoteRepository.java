@@ -1,14 +1,18 @@
 package com.example.iac_sample_app.repository;
 
+import com.example.iac_sample_app.dto.VoteSummaryDto;
 import com.example.iac_sample_app.entity.Vote;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface VoteRepository extends JpaRepository<Vote, Long> {
+public interface VoteRepository extends JpaRepository<Vote, Long>, VoteExportRepository {
 
     // 활성 투표만 조회
     List<Vote> findByActiveTrue();
@@ -17,6 +21,27 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     @Query("SELECT v FROM Vote v LEFT JOIN FETCH v.options WHERE v.id = :id")
     Vote findByIdWithOptions(Long id);
 
-    // 최근 생성된 투표 조회
-    List<Vote> findByActiveTrueOrderByCreatedAtDesc();
+    // 분산 카운터를 사용하는 투표 [voteId, counterShards, active]
+    @Query("SELECT v.id, v.counterShards, v.active FROM Vote v WHERE v.counterShards > 0")
+    List<Object[]> findShardedVotes();
+
+    // 분산 카운터 사용 표시 (여러 인스턴스가 동시에 전환해도 한 번만 반영)
+    @Modifying
+    @Query("UPDATE Vote v SET v.counterShards = :shards WHERE v.id = :voteId AND v.counterShards = 0")
+    int enableCounterShards(Long voteId, int shards);
+
+    // 활성 투표 요약 첫 페이지 (최신순, 옵션 제외)
+    @Query("SELECT new com.example.iac_sample_app.dto.VoteSummaryDto(" +
+           "v.id, v.question, v.description, v.totalVotes, v.createdAt, v.active) " +
+           "FROM Vote v WHERE v.active = true " +
+           "ORDER BY v.createdAt DESC, v.id DESC")
+    List<VoteSummaryDto> findActiveSummaries(Pageable pageable);
+
+    // 활성 투표 요약 다음 페이지 (커서 (createdAt, id) 이후, 인덱스 범위 스캔으로 OFFSET 없이 조회)
+    @Query("SELECT new com.example.iac_sample_app.dto.VoteSummaryDto(" +
+           "v.id, v.question, v.description, v.totalVotes, v.createdAt, v.active) " +
+           "FROM Vote v WHERE v.active = true " +
+           "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id)) " +
+           "ORDER BY v.createdAt DESC, v.id DESC")
+    List<VoteSummaryDto> findActiveSummariesBefore(LocalDateTime createdAt, Long id, Pageable pageable);
 }
@@ -1,24 +1,33 @@
 package com.example.iac_sample_app.service;
 
 import com.example.iac_sample_app.dto.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.cloudfront.CloudFrontClient;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.cloudfront.CloudFrontAsyncClient;
 import software.amazon.awssdk.services.cloudfront.model.*;
-import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.Ec2AsyncClient;
 import software.amazon.awssdk.services.ec2.model.*;
-import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
+import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2AsyncClient;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.*;
-import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.RdsAsyncClient;
 import software.amazon.awssdk.services.rds.model.*;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,11 +35,48 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AwsResourceService {
 
-    private final Ec2Client ec2Client;
-    private final ElasticLoadBalancingV2Client elbClient;
-    private final RdsClient rdsClient;
-    private final S3Client s3Client;
-    private final CloudFrontClient cloudFrontClient;
+    private final Ec2AsyncClient ec2Client;
+    private final ElasticLoadBalancingV2AsyncClient elbClient;
+    private final RdsAsyncClient rdsClient;
+    private final S3AsyncClient s3Client;
+    private final CloudFrontAsyncClient cloudFrontClient;
+
+    // 같은 리소스에 대한 동시 조회는 진행 중인 AWS 호출 하나를 공유
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    // 한 번 조회한 S3 버킷 생성 날짜
+    private volatile Instant s3BucketCreationDate;
+
+    // Target Health 동시 조회 수
+    @Value("${aws.target-health.parallelism:4}")
+    private int targetHealthParallelism;
+
+    // AWS 서비스별 회로 차단기 (EC2와 VPC 조회는 EC2 API를 함께 사용)
+    @Value("${aws.circuit-breaker.failure-threshold:5}")
+    private int circuitBreakerFailureThreshold;
+
+    @Value("${aws.circuit-breaker.open-duration-ms:30000}")
+    private long circuitBreakerOpenDurationMs;
+
+    private Map<String, CircuitBreaker> circuitBreakers;
+
+    @PostConstruct
+    void initCircuitBreakers() {
+        Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+        for (String service : List.of("ec2", "elbv2", "rds", "s3", "cloudfront")) {
+            breakers.put(service, new CircuitBreaker(service, circuitBreakerFailureThreshold, circuitBreakerOpenDurationMs));
+        }
+        circuitBreakers = Collections.unmodifiableMap(breakers);
+    }
+
+    /**
+     * 서비스별 회로 차단기 상태 (서비스명 -> CLOSED/OPEN/HALF_OPEN)
+     */
+    public Map<String, String> getCircuitBreakerStates() {
+        Map<String, String> states = new LinkedHashMap<>();
+        circuitBreakers.forEach((service, breaker) -> states.put(service, breaker.getState().name()));
+        return states;
+    }
 
     // 환경 변수에서 리소스 정보들 주입받기
     
@@ -150,442 +196,521 @@ public class AwsResourceService {
     @Value("${demo.mode.enabled:true}")
     private boolean demoModeEnabled;
 
-    /**
-     * 전체 인프라 상태 조회
-     */
-    public InfrastructureStatusResponse getInfrastructureStatus() {
-        try {
-            log.info("인프라 상태 조회 시작");
-
-            return InfrastructureStatusResponse.builder()
-                    .status("connected")
-                    .message("모든 리소스가 정상적으로 연결되었습니다")
-                    .lastUpdated(LocalDateTime.now())
-                    .ec2Instances(getEC2Info())
-                    .loadBalancer(getALBInfo())
-                    .database(getRDSInfo())
-                    .storage(getS3Info())
-                    .cdn(getCloudFrontInfo())
-                    .network(getVPCInfo())
-                    .build();
-
-        } catch (Exception e) {
-            log.error("인프라 상태 조회 실패", e);
-            return InfrastructureStatusResponse.builder()
-                    .status("error")
-                    .message("리소스 정보를 가져오는 중 오류가 발생했습니다: " + e.getMessage())
-                    .lastUpdated(LocalDateTime.now())
-                    .build();
-        }
-    }
+    // 데모 데이터 시각 기준 (갱신할 때마다 내용이 바뀐 것으로 감지되지 않도록 고정)
+    private final LocalDateTime demoBaseTime = LocalDateTime.now().withNano(0);
 
     /**
      * EC2 인스턴스 정보 조회
      */
-    public List<EC2InfoDto> getEC2Info() {
+    public CompletableFuture<List<EC2InfoDto>> getEC2Info() {
+        return singleFlight.execute("ec2", () -> circuitBreakers.get("ec2").execute(this::collectEC2Info));
+    }
+
+    private CompletableFuture<List<EC2InfoDto>> collectEC2Info() {
         // 데모 모드인 경우 가짜 데이터 반환
         if (demoModeEnabled) {
-            return createDemoEC2Data();
+            return CompletableFuture.completedFuture(createDemoEC2Data());
         }
-        
-        try {
-            if (ec2InstanceIds.isEmpty()) {
-                log.warn("EC2 인스턴스 ID가 설정되지 않았습니다");
-                return Collections.emptyList();
-            }
 
-            DescribeInstancesRequest request = DescribeInstancesRequest.builder()
-                    .instanceIds(ec2InstanceIds)
-                    .build();
-
-            DescribeInstancesResponse response = ec2Client.describeInstances(request);
-
-            List<EC2InfoDto> ec2List = new ArrayList<>();
-            for (Reservation reservation : response.reservations()) {
-                for (Instance instance : reservation.instances()) {
-                    EC2InfoDto dto = EC2InfoDto.builder()
-                            .instanceId(instance.instanceId())
-                            .privateIp(instance.privateIpAddress())
-                            .publicIp(instance.publicIpAddress())
-                            .instanceType(instance.instanceType().toString())
-                            .availabilityZone(instance.placement().availabilityZone())
-                            .state(instance.state().name().toString())
-                            .amiId(instance.imageId())
-                            .architecture(instance.architecture().toString())
-                            .launchTime(instance.launchTime() != null ? 
-                                    LocalDateTime.ofInstant(instance.launchTime(), ZoneId.systemDefault()) : null)
-                            .tags(instance.tags().stream()
-                                    .collect(Collectors.toMap(
-                                            tag -> tag.key(), 
-                                            tag -> tag.value())))
-                            .healthStatus(getInstanceHealthStatus(instance))
-                            .build();
-                    ec2List.add(dto);
-                }
-            }
+        if (ec2InstanceIds.isEmpty()) {
+            log.warn("EC2 인스턴스 ID가 설정되지 않았습니다");
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
 
-            log.info("EC2 인스턴스 정보 조회 완료: {} 개", ec2List.size());
-            return ec2List;
+        DescribeInstancesRequest request = DescribeInstancesRequest.builder()
+                .instanceIds(ec2InstanceIds)
+                .build();
 
-        } catch (Exception e) {
-            log.error("EC2 정보 조회 실패", e);
-            return Collections.emptyList();
-        }
+        // 설정된 인스턴스 ID로만 조회하고, 결과가 여러 페이지면 paginator가 이어서 요청
+        List<EC2InfoDto> ec2List = new ArrayList<>();
+        return ec2Client.describeInstancesPaginator(request)
+                .reservations()
+                .subscribe(reservation -> {
+                    for (Instance instance : reservation.instances()) {
+                        EC2InfoDto dto = EC2InfoDto.builder()
+                                .instanceId(instance.instanceId())
+                                .privateIp(instance.privateIpAddress())
+                                .publicIp(instance.publicIpAddress())
+                                .instanceType(instance.instanceType().toString())
+                                .availabilityZone(instance.placement().availabilityZone())
+                                .state(instance.state().name().toString())
+                                .amiId(instance.imageId())
+                                .architecture(instance.architecture().toString())
+                                .launchTime(instance.launchTime() != null ?
+                                        LocalDateTime.ofInstant(instance.launchTime(), ZoneId.systemDefault()) : null)
+                                .tags(instance.tags().stream()
+                                        .collect(Collectors.toMap(
+                                                tag -> tag.key(),
+                                                tag -> tag.value())))
+                                .healthStatus(getInstanceHealthStatus(instance))
+                                .build();
+                        ec2List.add(dto);
+                    }
+                })
+                .thenApply(ignored -> {
+                    log.info("EC2 인스턴스 정보 조회 완료: {} 개", ec2List.size());
+                    return ec2List;
+                });
     }
 
     /**
      * ALB 정보 조회
      */
-    public ALBInfoDto getALBInfo() {
+    public CompletableFuture<ALBInfoDto> getALBInfo() {
+        return singleFlight.execute("alb", () -> circuitBreakers.get("elbv2").execute(this::collectALBInfo));
+    }
+
+    private CompletableFuture<ALBInfoDto> collectALBInfo() {
         // 데모 모드인 경우 가짜 데이터 반환
         if (demoModeEnabled) {
-            return createDemoALBData();
+            return CompletableFuture.completedFuture(createDemoALBData());
         }
-        
-        try {
-            if (albDnsName == null || albDnsName.isEmpty()) {
-                log.warn("ALB DNS 이름이 설정되지 않았습니다");
-                return null;
-            }
 
-            // ALB 정보 조회
-            DescribeLoadBalancersResponse albResponse = elbClient.describeLoadBalancers();
-            LoadBalancer alb = albResponse.loadBalancers().stream()
-                    .filter(lb -> lb.dnsName().equals(albDnsName))
-                    .findFirst()
-                    .orElse(null);
-
-            if (alb == null) {
-                log.warn("ALB를 찾을 수 없습니다: {}", albDnsName);
-                return null;
-            }
-
-            // Target Group 정보 조회
-            List<TargetGroupInfoDto> targetGroups = getTargetGroupInfo(alb.loadBalancerArn());
-
-            ALBInfoDto dto = ALBInfoDto.builder()
-                    .arn(alb.loadBalancerArn())
-                    .dnsName(alb.dnsName())
-                    .state(alb.state().code().toString())
-                    .type(alb.type().toString())
-                    .scheme(alb.scheme().toString())
-                            .availabilityZones(alb.availabilityZones().stream()
-                            .map(az -> az.zoneName())
-                            .collect(Collectors.toList()))
-                    .targetGroups(targetGroups)
-                    .createdTime(alb.createdTime() != null ? 
-                            LocalDateTime.ofInstant(alb.createdTime(), ZoneId.systemDefault()) : null)
-                    .build();
-
-            log.info("ALB 정보 조회 완료: {}", dto.getDnsName());
-            return dto;
-
-        } catch (Exception e) {
-            log.error("ALB 정보 조회 실패", e);
-            return null;
+        if (isBlank(albArn) && isBlank(albDnsName)) {
+            log.warn("ALB ARN/DNS 이름이 설정되지 않았습니다");
+            return CompletableFuture.completedFuture(null);
         }
+
+        // ALB 정보 조회 후 Target Group 정보 조회
+        return findLoadBalancer()
+                .thenCompose(alb -> {
+                    if (alb == null) {
+                        log.warn("ALB를 찾을 수 없습니다: {}", !isBlank(albArn) ? albArn : albDnsName);
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    return getTargetGroupInfo(alb.loadBalancerArn())
+                            .thenApply(targetGroups -> {
+                                ALBInfoDto dto = ALBInfoDto.builder()
+                                        .arn(alb.loadBalancerArn())
+                                        .dnsName(alb.dnsName())
+                                        .state(alb.state().code().toString())
+                                        .type(alb.type().toString())
+                                        .scheme(alb.scheme().toString())
+                                        .availabilityZones(alb.availabilityZones().stream()
+                                                .map(az -> az.zoneName())
+                                                .collect(Collectors.toList()))
+                                        .targetGroups(targetGroups)
+                                        .createdTime(alb.createdTime() != null ?
+                                                LocalDateTime.ofInstant(alb.createdTime(), ZoneId.systemDefault()) : null)
+                                        .build();
+
+                                log.info("ALB 정보 조회 완료: {}", dto.getDnsName());
+                                return dto;
+                            });
+                });
     }
 
     /**
      * RDS 정보 조회
      */
-    public RDSInfoDto getRDSInfo() {
+    public CompletableFuture<RDSInfoDto> getRDSInfo() {
+        return singleFlight.execute("rds", () -> circuitBreakers.get("rds").execute(this::collectRDSInfo));
+    }
+
+    private CompletableFuture<RDSInfoDto> collectRDSInfo() {
         // 데모 모드인 경우 가짜 데이터 반환
         if (demoModeEnabled) {
-            return createDemoRDSData();
+            return CompletableFuture.completedFuture(createDemoRDSData());
         }
-        
-        try {
-            if (rdsEndpoint == null || rdsEndpoint.isEmpty()) {
-                log.warn("RDS 엔드포인트가 설정되지 않았습니다");
-                return null;
-            }
 
-            // RDS 인스턴스 조회
-            var response = rdsClient.describeDBInstances();
-            var rdsInstance = response.dbInstances().stream()
-                    .filter(db -> db.endpoint() != null && db.endpoint().address().equals(rdsEndpoint))
-                    .findFirst()
-                    .orElse(null);
+        if (isBlank(rdsInstanceIdentifier) && isBlank(rdsEndpoint)) {
+            log.warn("RDS 식별자/엔드포인트가 설정되지 않았습니다");
+            return CompletableFuture.completedFuture(null);
+        }
 
-            if (rdsInstance == null) {
-                log.warn("RDS 인스턴스를 찾을 수 없습니다: {}", rdsEndpoint);
-                return null;
-            }
+        // RDS 인스턴스 조회
+        return findDBInstance()
+                .thenApply(rdsInstance -> {
+                    if (rdsInstance == null) {
+                        log.warn("RDS 인스턴스를 찾을 수 없습니다: {}",
+                                !isBlank(rdsInstanceIdentifier) ? rdsInstanceIdentifier : rdsEndpoint);
+                        return null;
+                    }
+
+                    // 생성/수정 중에는 엔드포인트가 아직 없을 수 있음
+                    Endpoint endpoint = rdsInstance.endpoint();
+                    RDSInfoDto dto = RDSInfoDto.builder()
+                            .identifier(rdsInstance.dbInstanceIdentifier())
+                            .endpoint(endpoint != null ? endpoint.address() : null)
+                            .port(endpoint != null ? endpoint.port() : null)
+                            .engine(rdsInstance.engine())
+                            .engineVersion(rdsInstance.engineVersion())
+                            .instanceClass(rdsInstance.dbInstanceClass())
+                            .status(rdsInstance.dbInstanceStatus())
+                            .multiAZ(rdsInstance.multiAZ())
+                            .availabilityZone(rdsInstance.availabilityZone())
+                            .createdTime(rdsInstance.instanceCreateTime() != null ?
+                                    LocalDateTime.ofInstant(rdsInstance.instanceCreateTime(), ZoneId.systemDefault()) : null)
+                            .storageType(rdsInstance.storageType())
+                            .allocatedStorage(rdsInstance.allocatedStorage())
+                            .build();
 
-            RDSInfoDto dto = RDSInfoDto.builder()
-                    .identifier(rdsInstance.dbInstanceIdentifier())
-                    .endpoint(rdsInstance.endpoint().address())
-                    .port(rdsInstance.endpoint().port())
-                    .engine(rdsInstance.engine())
-                    .engineVersion(rdsInstance.engineVersion())
-                    .instanceClass(rdsInstance.dbInstanceClass())
-                    .status(rdsInstance.dbInstanceStatus())
-                    .multiAZ(rdsInstance.multiAZ())
-                    .availabilityZone(rdsInstance.availabilityZone())
-                    .createdTime(rdsInstance.instanceCreateTime() != null ? 
-                            LocalDateTime.ofInstant(rdsInstance.instanceCreateTime(), ZoneId.systemDefault()) : null)
-                    .storageType(rdsInstance.storageType())
-                    .allocatedStorage(rdsInstance.allocatedStorage())
-                    .build();
-
-            log.info("RDS 정보 조회 완료: {}", dto.getIdentifier());
-            return dto;
-
-        } catch (Exception e) {
-            log.error("RDS 정보 조회 실패", e);
-            return null;
-        }
+                    log.info("RDS 정보 조회 완료: {}", dto.getIdentifier());
+                    return dto;
+                });
     }
 
     /**
      * S3 정보 조회
      */
-    public S3InfoDto getS3Info() {
+    public CompletableFuture<S3InfoDto> getS3Info() {
+        return singleFlight.execute("s3", () -> circuitBreakers.get("s3").execute(this::collectS3Info));
+    }
+
+    private CompletableFuture<S3InfoDto> collectS3Info() {
         // 데모 모드인 경우 가짜 데이터 반환
         if (demoModeEnabled) {
-            return createDemoS3Data();
+            return CompletableFuture.completedFuture(createDemoS3Data());
         }
-        
-        try {
-            if (s3BucketName == null || s3BucketName.isEmpty()) {
-                log.warn("S3 버킷 이름이 설정되지 않았습니다");
-                return null;
-            }
 
-            // 버킷 정보 조회
-            HeadBucketRequest headRequest = HeadBucketRequest.builder()
-                    .bucket(s3BucketName)
-                    .build();
-            s3Client.headBucket(headRequest);
-
-            // 버킷 생성 날짜 조회
-            ListBucketsResponse bucketsResponse = s3Client.listBuckets();
-            Bucket bucket = bucketsResponse.buckets().stream()
-                    .filter(b -> b.name().equals(s3BucketName))
-                    .findFirst()
-                    .orElse(null);
-
-            S3InfoDto dto = S3InfoDto.builder()
-                    .bucketName(s3BucketName)
-                    .region(s3Client.serviceClientConfiguration().region().toString())
-                    .creationDate(bucket != null && bucket.creationDate() != null ? 
-                            LocalDateTime.ofInstant(bucket.creationDate(), ZoneId.systemDefault()) : null)
-                    .publicAccessStatus(getS3PublicAccessStatus())
-                    .websiteHosting(checkS3WebsiteHosting())
-                    .websiteEndpoint(getS3WebsiteEndpoint())
-                    .build();
-
-            log.info("S3 정보 조회 완료: {}", dto.getBucketName());
-            return dto;
-
-        } catch (Exception e) {
-            log.error("S3 정보 조회 실패", e);
-            return null;
+        if (s3BucketName == null || s3BucketName.isEmpty()) {
+            log.warn("S3 버킷 이름이 설정되지 않았습니다");
+            return CompletableFuture.completedFuture(null);
         }
+
+        // 버킷 존재 확인 후 생성 날짜, 공개 설정, 웹사이트 설정을 동시에 조회
+        HeadBucketRequest headRequest = HeadBucketRequest.builder()
+                .bucket(s3BucketName)
+                .build();
+
+        return s3Client.headBucket(headRequest)
+                .thenCompose(head -> {
+                    CompletableFuture<Instant> creationDate = getS3BucketCreationDate();
+                    CompletableFuture<String> publicAccessStatus = getS3PublicAccessStatus();
+                    CompletableFuture<Boolean> websiteHosting = checkS3WebsiteHosting();
+
+                    return CompletableFuture.allOf(creationDate, publicAccessStatus, websiteHosting)
+                            .thenApply(ignored -> {
+                                Instant created = creationDate.join();
+                                String region = s3Client.serviceClientConfiguration().region().toString();
+
+                                S3InfoDto dto = S3InfoDto.builder()
+                                        .bucketName(s3BucketName)
+                                        .region(region)
+                                        .creationDate(created != null ?
+                                                LocalDateTime.ofInstant(created, ZoneId.systemDefault()) : null)
+                                        .publicAccessStatus(publicAccessStatus.join())
+                                        .websiteHosting(websiteHosting.join())
+                                        .websiteEndpoint(websiteHosting.join() ?
+                                                String.format("%s.s3-website.%s.amazonaws.com", s3BucketName, region) : null)
+                                        .build();
+
+                                log.info("S3 정보 조회 완료: {}", dto.getBucketName());
+                                return dto;
+                            });
+                });
     }
 
     /**
      * CloudFront 정보 조회
      */
-    public CloudFrontInfoDto getCloudFrontInfo() {
+    public CompletableFuture<CloudFrontInfoDto> getCloudFrontInfo() {
+        return singleFlight.execute("cloudfront", () -> circuitBreakers.get("cloudfront").execute(this::collectCloudFrontInfo));
+    }
+
+    private CompletableFuture<CloudFrontInfoDto> collectCloudFrontInfo() {
         // 데모 모드인 경우 가짜 데이터 반환
         if (demoModeEnabled) {
-            return createDemoCloudFrontData();
+            return CompletableFuture.completedFuture(createDemoCloudFrontData());
         }
-        
-        try {
-            if (cloudFrontDistributionId == null || cloudFrontDistributionId.isEmpty()) {
-                log.warn("CloudFront Distribution ID가 설정되지 않았습니다");
-                return null;
-            }
 
-            GetDistributionRequest request = GetDistributionRequest.builder()
-                    .id(cloudFrontDistributionId)
-                    .build();
+        if (cloudFrontDistributionId == null || cloudFrontDistributionId.isEmpty()) {
+            log.warn("CloudFront Distribution ID가 설정되지 않았습니다");
+            return CompletableFuture.completedFuture(null);
+        }
 
-            GetDistributionResponse response = cloudFrontClient.getDistribution(request);
-            Distribution distribution = response.distribution();
+        GetDistributionRequest request = GetDistributionRequest.builder()
+                .id(cloudFrontDistributionId)
+                .build();
 
-            List<OriginInfoDto> origins = distribution.distributionConfig().origins().items().stream()
-                    .map(origin -> OriginInfoDto.builder()
-                            .originId(origin.id())
-                            .domainName(origin.domainName())
-                            .originType(origin.s3OriginConfig() != null ? "s3" : "custom")
-                            .build())
-                    .collect(Collectors.toList());
-
-            CloudFrontInfoDto dto = CloudFrontInfoDto.builder()
-                    .distributionId(distribution.id())
-                    .domainName(distribution.domainName())
-                    .status(distribution.status())
-                    .enabled(distribution.distributionConfig().enabled())
-                    .comment(distribution.distributionConfig().comment())
-                    .lastModifiedTime(distribution.lastModifiedTime() != null ? 
-                            LocalDateTime.ofInstant(distribution.lastModifiedTime(), ZoneId.systemDefault()) : null)
-                    .origins(origins)
-                    .build();
-
-            log.info("CloudFront 정보 조회 완료: {}", dto.getDomainName());
-            return dto;
-
-        } catch (Exception e) {
-            log.error("CloudFront 정보 조회 실패", e);
-            return null;
-        }
+        return cloudFrontClient.getDistribution(request)
+                .thenApply(response -> {
+                    Distribution distribution = response.distribution();
+
+                    List<OriginInfoDto> origins = distribution.distributionConfig().origins().items().stream()
+                            .map(origin -> OriginInfoDto.builder()
+                                    .originId(origin.id())
+                                    .domainName(origin.domainName())
+                                    .originType(origin.s3OriginConfig() != null ? "s3" : "custom")
+                                    .build())
+                            .collect(Collectors.toList());
+
+                    CloudFrontInfoDto dto = CloudFrontInfoDto.builder()
+                            .distributionId(distribution.id())
+                            .domainName(distribution.domainName())
+                            .status(distribution.status())
+                            .enabled(distribution.distributionConfig().enabled())
+                            .comment(distribution.distributionConfig().comment())
+                            .lastModifiedTime(distribution.lastModifiedTime() != null ?
+                                    LocalDateTime.ofInstant(distribution.lastModifiedTime(), ZoneId.systemDefault()) : null)
+                            .origins(origins)
+                            .build();
+
+                    log.info("CloudFront 정보 조회 완료: {}", dto.getDomainName());
+                    return dto;
+                });
     }
 
     /**
      * VPC 정보 조회 (간소화된 버전)
      */
-    public VPCInfoDto getVPCInfo() {
+    public CompletableFuture<VPCInfoDto> getVPCInfo() {
+        return singleFlight.execute("vpc", () -> circuitBreakers.get("ec2").execute(this::collectVPCInfo));
+    }
+
+    private CompletableFuture<VPCInfoDto> collectVPCInfo() {
         // 데모 모드인 경우 가짜 데이터 반환
         if (demoModeEnabled) {
-            return createDemoVPCData();
+            return CompletableFuture.completedFuture(createDemoVPCData());
         }
-        
-        try {
-            DescribeVpcsResponse response = ec2Client.describeVpcs();
-            Vpc vpc = response.vpcs().stream()
-                    .filter(v -> !v.isDefault()) // 기본 VPC가 아닌 것
-                    .findFirst()
-                    .orElse(null);
-
-            if (vpc == null) {
-                log.warn("사용자 정의 VPC를 찾을 수 없습니다");
-                return null;
-            }
 
-            VPCInfoDto dto = VPCInfoDto.builder()
-                    .vpcId(vpc.vpcId())
-                    .cidrBlock(vpc.cidrBlock())
-                    .state(vpc.state().toString())
-                    .isDefault(vpc.isDefault())
-                    .build();
+        // VPC ID가 설정되어 있으면 ID로, 없으면 기본 VPC가 아닌 것만 서버 측에서 필터링
+        DescribeVpcsRequest request = !isBlank(vpcId)
+                ? DescribeVpcsRequest.builder().vpcIds(vpcId).build()
+                : DescribeVpcsRequest.builder()
+                        .filters(software.amazon.awssdk.services.ec2.model.Filter.builder()
+                                .name("is-default")
+                                .values("false")
+                                .build())
+                        .build();
+
+        return findFirst(ec2Client.describeVpcsPaginator(request).vpcs(), vpc -> true)
+                .thenApply(vpc -> {
+                    if (vpc == null) {
+                        log.warn("사용자 정의 VPC를 찾을 수 없습니다");
+                        return null;
+                    }
+
+                    VPCInfoDto dto = VPCInfoDto.builder()
+                            .vpcId(vpc.vpcId())
+                            .cidrBlock(vpc.cidrBlock())
+                            .state(vpc.state().toString())
+                            .isDefault(vpc.isDefault())
+                            .build();
 
-            log.info("VPC 정보 조회 완료: {}", dto.getVpcId());
-            return dto;
+                    log.info("VPC 정보 조회 완료: {}", dto.getVpcId());
+                    return dto;
+                });
+    }
+
+    // === 헬퍼 메서드들 ===
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    // 조건에 맞는 첫 항목을 받으면 구독을 끊어 이후 페이지는 요청하지 않음
+    private static <T> CompletableFuture<T> findFirst(SdkPublisher<T> publisher, Predicate<T> condition) {
+        AtomicReference<T> found = new AtomicReference<>();
+        return publisher.filter(condition)
+                .limit(1)
+                .subscribe(found::set)
+                .thenApply(ignored -> found.get());
+    }
 
-        } catch (Exception e) {
-            log.error("VPC 정보 조회 실패", e);
-            return null;
+    /**
+     * 대상 ALB 조회
+     * ARN이 설정되어 있으면 ARN으로, 없으면 DNS 이름에서 추출한 ALB 이름으로 조회하고,
+     * 이름을 추출할 수 없거나 추출한 이름으로 찾지 못하면 페이지 단위로 검색한다.
+     */
+    private CompletableFuture<LoadBalancer> findLoadBalancer() {
+        if (!isBlank(albArn)) {
+            return elbClient.describeLoadBalancers(DescribeLoadBalancersRequest.builder()
+                            .loadBalancerArns(albArn)
+                            .build())
+                    .thenApply(response -> response.loadBalancers().stream().findFirst().orElse(null));
         }
+
+        String albName = albNameFromDnsName(albDnsName);
+        if (albName == null) {
+            return scanLoadBalancers();
+        }
+        // 이름 형식이 예상과 다르면 DescribeLoadBalancers가 LoadBalancerNotFound로 실패하므로 검색으로 전환
+        return elbClient.describeLoadBalancers(DescribeLoadBalancersRequest.builder()
+                        .names(albName)
+                        .build())
+                .thenApply(response -> response.loadBalancers().stream()
+                        .filter(lb -> lb.dnsName().equalsIgnoreCase(albDnsName))
+                        .findFirst()
+                        .orElse(null))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof LoadBalancerNotFoundException) {
+                        log.debug("ALB 이름 {}으로 찾지 못해 전체 목록에서 검색합니다", albName);
+                        return null;
+                    }
+                    throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+                })
+                .thenCompose(lb -> lb != null ? CompletableFuture.completedFuture(lb) : scanLoadBalancers());
     }
 
-    // === 헬퍼 메서드들 ===
+    private CompletableFuture<LoadBalancer> scanLoadBalancers() {
+        return findFirst(elbClient.describeLoadBalancersPaginator(DescribeLoadBalancersRequest.builder().build())
+                        .loadBalancers(),
+                lb -> lb.dnsName().equalsIgnoreCase(albDnsName));
+    }
+
+    // ALB DNS 이름 형식: [internal-]<이름>-<숫자>.<리전>.elb.amazonaws.com
+    private static String albNameFromDnsName(String dnsName) {
+        String label = dnsName.substring(0, dnsName.indexOf('.') >= 0 ? dnsName.indexOf('.') : dnsName.length());
+        if (label.startsWith("internal-")) {
+            label = label.substring("internal-".length());
+        }
+        int suffix = label.lastIndexOf('-');
+        return suffix > 0 ? label.substring(0, suffix) : null;
+    }
+
+    // 식별자가 설정되어 있으면 식별자로, 없으면 엔드포인트가 일치하는 인스턴스를 페이지 단위로 검색
+    private CompletableFuture<DBInstance> findDBInstance() {
+        if (!isBlank(rdsInstanceIdentifier)) {
+            return rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                            .dbInstanceIdentifier(rdsInstanceIdentifier)
+                            .build())
+                    .thenApply(response -> response.dbInstances().stream().findFirst().orElse(null));
+        }
+
+        return findFirst(rdsClient.describeDBInstancesPaginator(DescribeDbInstancesRequest.builder().build())
+                        .dbInstances(),
+                db -> db.endpoint() != null && rdsEndpoint.equals(db.endpoint().address()));
+    }
+
+    // 버킷 생성 날짜는 바뀌지 않으므로 계정 전체를 반환하는 ListBuckets는 처음 한 번만 호출
+    private CompletableFuture<Instant> getS3BucketCreationDate() {
+        Instant cached = s3BucketCreationDate;
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return s3Client.listBuckets()
+                .thenApply(response -> {
+                    Instant created = response.buckets().stream()
+                            .filter(b -> b.name().equals(s3BucketName))
+                            .map(Bucket::creationDate)
+                            .findFirst()
+                            .orElse(null);
+                    s3BucketCreationDate = created;
+                    return created;
+                })
+                .exceptionally(e -> null);
+    }
 
     private String getInstanceHealthStatus(Instance instance) {
-        InstanceState state = instance.state();
-        if (state.name() == InstanceStateName.RUNNING) {
+        return getInstanceHealthStatus(instance.state().name());
+    }
+
+    // 인스턴스 상태로부터 헬스 상태 판단 (상태 변경 이벤트를 스냅샷에 반영할 때도 사용)
+    static String getInstanceHealthStatus(InstanceStateName stateName) {
+        if (stateName == InstanceStateName.RUNNING) {
             return "healthy";
-        } else if (state.name() == InstanceStateName.STOPPED || 
-                   state.name() == InstanceStateName.STOPPING) {
+        } else if (stateName == InstanceStateName.STOPPED ||
+                   stateName == InstanceStateName.STOPPING) {
             return "unhealthy";
         } else {
             return "unknown";
         }
     }
 
-    private List<TargetGroupInfoDto> getTargetGroupInfo(String albArn) {
-        try {
-            DescribeTargetGroupsResponse tgResponse = elbClient.describeTargetGroups(
-                    DescribeTargetGroupsRequest.builder()
-                            .loadBalancerArn(albArn)
-                            .build()
-            );
-
-            return tgResponse.targetGroups().stream()
-                    .map(tg -> {
-                        List<TargetHealthDto> targets = getTargetHealth(tg.targetGroupArn());
-                        long healthyCount = targets.stream()
-                                .filter(t -> "healthy".equals(t.getHealthStatus()))
-                                .count();
-
-                        return TargetGroupInfoDto.builder()
-                                .arn(tg.targetGroupArn())
-                                .name(tg.targetGroupName())
-                                .protocol(tg.protocol().toString())
-                                .port(tg.port())
-                                .healthCheckPath(tg.healthCheckPath())
-                                .healthyTargetCount((int) healthyCount)
-                                .unhealthyTargetCount(targets.size() - (int) healthyCount)
-                                .targets(targets)
-                                .build();
-                    })
-                    .collect(Collectors.toList());
+    private CompletableFuture<List<TargetGroupInfoDto>> getTargetGroupInfo(String albArn) {
+        List<software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroup> found = new ArrayList<>();
+        return elbClient.describeTargetGroupsPaginator(DescribeTargetGroupsRequest.builder()
+                        .loadBalancerArn(albArn)
+                        .build())
+                .targetGroups()
+                .subscribe(found::add)
+                // 모든 Target Group의 Target Health를 제한된 동시성으로 함께 조회
+                .thenCompose(done -> mapConcurrently(found, targetHealthParallelism,
+                        tg -> getTargetHealth(tg.targetGroupArn())
+                                .thenApply(targets -> toTargetGroupInfo(tg, targets))));
+    }
 
-        } catch (Exception e) {
-            log.error("Target Group 정보 조회 실패", e);
-            return Collections.emptyList();
+    private TargetGroupInfoDto toTargetGroupInfo(software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroup tg,
+                                                 List<TargetHealthDto> targets) {
+        // 정상/비정상 개수를 한 번 순회로 계산
+        int healthyCount = 0;
+        for (TargetHealthDto target : targets) {
+            if ("healthy".equals(target.getHealthStatus())) {
+                healthyCount++;
+            }
         }
+
+        return TargetGroupInfoDto.builder()
+                .arn(tg.targetGroupArn())
+                .name(tg.targetGroupName())
+                .protocol(tg.protocol().toString())
+                .port(tg.port())
+                .healthCheckPath(tg.healthCheckPath())
+                .healthyTargetCount(healthyCount)
+                .unhealthyTargetCount(targets.size() - healthyCount)
+                .targets(targets)
+                .build();
     }
 
-    private List<TargetHealthDto> getTargetHealth(String targetGroupArn) {
-        try {
-            DescribeTargetHealthResponse healthResponse = elbClient.describeTargetHealth(
-                    DescribeTargetHealthRequest.builder()
-                            .targetGroupArn(targetGroupArn)
-                            .build()
-            );
-
-            return healthResponse.targetHealthDescriptions().stream()
-                    .map(thd -> TargetHealthDto.builder()
-                            .targetId(thd.target().id())
-                            .targetType(thd.target().port() != null ? "instance" : "ip")
-                            .healthStatus(thd.targetHealth().state().toString().toLowerCase())
-                            .description(thd.targetHealth().description())
-                            .build())
-                    .collect(Collectors.toList());
+    /**
+     * Target Group별 Target Health 조회
+     * 결과는 캐시하지 않는다. ALB 섹션 스냅샷이 주기 조회 사이의 캐시 역할을 하고,
+     * ELB 이벤트로 다시 조회할 때는 최신 상태가 필요하기 때문이다.
+     */
+    private CompletableFuture<List<TargetHealthDto>> getTargetHealth(String targetGroupArn) {
+        return elbClient.describeTargetHealth(DescribeTargetHealthRequest.builder()
+                        .targetGroupArn(targetGroupArn)
+                        .build())
+                .thenApply(healthResponse -> healthResponse.targetHealthDescriptions().stream()
+                        .map(thd -> TargetHealthDto.builder()
+                                .targetId(thd.target().id())
+                                .targetType(thd.target().port() != null ? "instance" : "ip")
+                                .healthStatus(thd.targetHealth().state().toString().toLowerCase())
+                                .description(thd.targetHealth().description())
+                                .build())
+                        .collect(Collectors.toList()));
+    }
 
-        } catch (Exception e) {
-            log.error("Target Health 조회 실패", e);
-            return Collections.emptyList();
+    // 최대 parallelism개까지만 동시에 요청하고, 하나가 끝나면 다음 항목을 요청 (결과는 입력 순서 유지)
+    private static <T, R> CompletableFuture<List<R>> mapConcurrently(List<T> items, int parallelism,
+                                                                    Function<T, CompletableFuture<R>> call) {
+        List<R> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(Math.max(parallelism, 1), items.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = runNext(items, results, next, call);
         }
+        return CompletableFuture.allOf(workers).thenApply(ignored -> results);
     }
 
-    private String getS3PublicAccessStatus() {
-        try {
-            GetPublicAccessBlockRequest request = GetPublicAccessBlockRequest.builder()
-                    .bucket(s3BucketName)
-                    .build();
-            
-            GetPublicAccessBlockResponse response = s3Client.getPublicAccessBlock(request);
-            PublicAccessBlockConfiguration config = response.publicAccessBlockConfiguration();
-            
-            if (config.blockPublicAcls() && config.blockPublicPolicy()) {
-                return "private";
-            } else {
-                return "public";
-            }
-        } catch (Exception e) {
-            return "unknown";
+    private static <T, R> CompletableFuture<Void> runNext(List<T> items, List<R> results, AtomicInteger next,
+                                                         Function<T, CompletableFuture<R>> call) {
+        int index = next.getAndIncrement();
+        if (index >= items.size()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return call.apply(items.get(index))
+                .thenCompose(result -> {
+                    results.set(index, result);
+                    return runNext(items, results, next, call);
+                });
     }
 
-    private Boolean checkS3WebsiteHosting() {
-        try {
-            GetBucketWebsiteRequest request = GetBucketWebsiteRequest.builder()
-                    .bucket(s3BucketName)
-                    .build();
-            
-            s3Client.getBucketWebsite(request);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    private CompletableFuture<String> getS3PublicAccessStatus() {
+        GetPublicAccessBlockRequest request = GetPublicAccessBlockRequest.builder()
+                .bucket(s3BucketName)
+                .build();
+
+        return s3Client.getPublicAccessBlock(request)
+                .thenApply(response -> {
+                    PublicAccessBlockConfiguration config = response.publicAccessBlockConfiguration();
+                    return config.blockPublicAcls() && config.blockPublicPolicy() ? "private" : "public";
+                })
+                .exceptionally(e -> "unknown");
     }
 
-    private String getS3WebsiteEndpoint() {
-        try {
-            if (checkS3WebsiteHosting()) {
-                return String.format("%s.s3-website.%s.amazonaws.com", 
-                        s3BucketName, 
-                        s3Client.serviceClientConfiguration().region().toString());
-            }
-        } catch (Exception e) {
-            log.debug("S3 웹사이트 엔드포인트 조회 실패", e);
-        }
-        return null;
+    private CompletableFuture<Boolean> checkS3WebsiteHosting() {
+        GetBucketWebsiteRequest request = GetBucketWebsiteRequest.builder()
+                .bucket(s3BucketName)
+                .build();
+
+        return s3Client.getBucketWebsite(request)
+                .thenApply(response -> true)
+                .exceptionally(e -> false);
     }
 
     // === 데모 데이터 생성 메서드들 ===
@@ -616,7 +741,7 @@ public class AwsResourceService {
                     .state("running")
                     .amiId(amiId)
                     .architecture("x86_64")
-                    .launchTime(LocalDateTime.now().minusHours(2 - i))
+                    .launchTime(demoBaseTime.minusHours(2 - i))
                     .tags(Map.of("Name", "WAS-Instance-" + (i + 1), "Environment", "Demo"))
                     .healthStatus("healthy")
                     .build());
@@ -665,7 +790,7 @@ public class AwsResourceService {
                 .scheme("internet-facing")
                 .availabilityZones(availabilityZones)
                 .targetGroups(targetGroups)
-                .createdTime(LocalDateTime.now().minusHours(3))
+                .createdTime(demoBaseTime.minusHours(3))
                 .build();
 
         log.info("데모 ALB 데이터 생성 완료: {} (실제 환경변수 활용)", demo.getDnsName());
@@ -693,7 +818,7 @@ public class AwsResourceService {
                 .status("available")
                 .multiAZ(multiAZ)
                 .availabilityZone(availabilityZone)
-                .createdTime(LocalDateTime.now().minusHours(4))
+                .createdTime(demoBaseTime.minusHours(4))
                 .storageType("gp2")
                 .allocatedStorage(20)
                 .build();
@@ -712,7 +837,7 @@ public class AwsResourceService {
         S3InfoDto demo = S3InfoDto.builder()
                 .bucketName(bucketName)
                 .region(region)
-                .creationDate(LocalDateTime.now().minusHours(5))
+                .creationDate(demoBaseTime.minusHours(5))
                 .publicAccessStatus("private")
                 .websiteHosting(true)
                 .websiteEndpoint(websiteEndpoint)
@@ -747,7 +872,7 @@ public class AwsResourceService {
                 .status(status)
                 .enabled(true)
                 .comment("Frontend distribution for voting system")
-                .lastModifiedTime(LocalDateTime.now().minusHours(2))
+                .lastModifiedTime(demoBaseTime.minusHours(2))
                 .origins(origins)
                 .priceClass("PriceClass_All")
                 .defaultRootObject("index.html")
@@ -0,0 +1,56 @@
+package com.example.iac_sample_app.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 동시성 안전 Bloom filter (해시 두 개로 k개의 비트 위치를 만드는 double hashing)
+ * mightContain이 false면 추가된 적이 없고, true면 설정한 오탐률 이내로 추가되었을 수 있다.
+ * 원소 대신 호출자가 계산한 64비트 해시 두 개를 받아 원소 형식과 해시 함수는 호출자가 정한다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m/n ln 2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    public void put(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 필터가 차지하는 메모리 (바이트)
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    private long index(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, bitCount);
+    }
+}
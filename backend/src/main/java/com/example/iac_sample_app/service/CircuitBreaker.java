@@ -0,0 +1,112 @@
+package com.example.iac_sample_app.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AWS 서비스별 회로 차단기
+ * 연속 실패가 임계치를 넘으면 일정 시간 동안 호출을 바로 실패시켜 스로틀링 중인 API를 더 두드리지 않는다.
+ * 차단 시간이 지나면 한 번의 시험 호출만 허용하고, 성공하면 다시 닫는다.
+ */
+@Slf4j
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    // 상태 전이는 드물고 짧으므로 인스턴스 락으로 보호
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+    }
+
+    /**
+     * 차단기를 거쳐 비동기 호출 실행
+     * 차단 중이면 호출하지 않고 실패한 future를 반환한다.
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        if (!tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new RuntimeException(name + " 호출이 일시 차단되었습니다 (연속 실패 " + failureThreshold + "회 이상)"));
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((value, error) -> {
+            if (error == null) {
+                onSuccess();
+            } else {
+                onFailure();
+            }
+        });
+    }
+
+    public synchronized State getState() {
+        // 차단 시간이 지났으면 다음 호출은 시험 호출로 허용됨
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                // HALF_OPEN: 시험 호출은 한 번에 하나만
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("{} 회로 차단 해제", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("{} 회로 차단 (연속 실패 {}회)", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+    }
+}
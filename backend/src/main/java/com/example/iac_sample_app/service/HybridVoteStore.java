@@ -0,0 +1,137 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.CreateVoteRequest;
+import com.example.iac_sample_app.dto.VotePageResponse;
+import com.example.iac_sample_app.dto.VoteResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 우선 + DB 영속 투표 저장소 (vote.store.type=hybrid)
+ * 생성은 DB에 먼저 저장한 뒤 같은 ID로 메모리에 올리고, 조회/투표 집계는 메모리에서 처리한다.
+ * 투표하기는 write-behind 버퍼(비활성화 시 원자적 증가 쿼리)로 DB에 반영하며, 시작 시 DB의 투표를 메모리로 불러온다.
+ * 다른 인스턴스의 투표수 증가는 메모리에 반영되지 않으므로 단일 인스턴스 또는 sticky 세션 배포에 맞다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "vote.store.type", havingValue = "hybrid")
+@RequiredArgsConstructor
+public class HybridVoteStore implements VoteStore {
+
+    private final InMemoryVoteEngine voteEngine;
+    private final VoteService voteService;
+    private final ShardedVoteCounter shardedVoteCounter;
+    private final VoteWriteBehindBuffer voteWriteBehindBuffer;
+
+    /**
+     * DB의 전체 투표를 메모리로 불러옴 (투표 x 옵션 행을 스트리밍으로 읽어 엔티티 그래프를 한꺼번에 올리지 않음)
+     * 분산 카운터 투표는 샤드 합계가 필요하므로 스트리밍 전에 먼저 등록한다 (스트리밍 중에는 같은 연결로 다른 쿼리 불가).
+     * 이후 스트리밍에서 같은 투표가 나오면 register가 기존 집계를 유지한다.
+     */
+    @PostConstruct
+    void load() {
+        shardedVoteCounter.findShardedVoteIds()
+                .forEach(id -> register(voteService.getVoteById(id)));
+        LongAdder loaded = new LongAdder();
+        voteService.forEachVote(vote -> {
+            register(vote);
+            loaded.increment();
+        });
+        log.info("DB에서 투표 {}건을 메모리로 불러왔습니다", loaded.sum());
+    }
+
+    // 페이지 구성은 DB 키셋 조회로, 투표수는 메모리 집계로 응답 (write-behind 반영 전 투표 포함)
+    @Override
+    public VotePageResponse findPage(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        VotePageResponse page = voteService.getActiveVotes(cursorCreatedAt, cursorId, size);
+        page.setVotes(page.getVotes().stream()
+                .map(vote -> {
+                    VoteTally tally = voteEngine.find(vote.getId());
+                    return voteEngine.toVoteResponse(tally != null ? tally : register(vote));
+                })
+                .collect(Collectors.toList()));
+        return page;
+    }
+
+    @Override
+    public VoteResponse findById(Long id) {
+        return voteEngine.toVoteResponse(tally(id));
+    }
+
+    @Override
+    public VoteResponse create(CreateVoteRequest request) {
+        return voteEngine.toVoteResponse(register(voteService.createVote(request)));
+    }
+
+    @Override
+    public List<VoteResponse> createAll(List<CreateVoteRequest> requests) {
+        return voteService.createVotes(requests).stream()
+                .map(vote -> voteEngine.toVoteResponse(register(vote)))
+                .collect(Collectors.toList());
+    }
+
+    // 활성/옵션 검증 -> DB 반영 요청 -> 메모리 증가 순으로 처리 (역압으로 거절된 투표가 메모리에만 남지 않도록 함)
+    // write-behind 반영 쿼리는 활성 여부를 보지 않으므로 비활성 투표는 여기서 거절해야 함
+    @Override
+    public VoteResponse cast(Long voteId, Long optionId) {
+        VoteTally tally = tally(voteId);
+        if (!tally.isActive() || tally.indexOf(optionId) < 0) {
+            throw new RuntimeException("유효하지 않은 투표 또는 옵션입니다: " + voteId + "/" + optionId);
+        }
+
+        if (voteWriteBehindBuffer.isEnabled()) {
+            voteWriteBehindBuffer.enqueue(voteId, optionId);
+        } else if (shardedVoteCounter.increment(voteId, optionId) == 0) {
+            throw new RuntimeException("유효하지 않은 투표 또는 옵션입니다: " + voteId + "/" + optionId);
+        }
+
+        voteEngine.cast(voteId, optionId);
+        return voteEngine.toVoteResponse(tally);
+    }
+
+    // 청크가 커밋될 때마다 메모리에도 등록하여 목록 조회에 바로 포함
+    @Override
+    public long importVotes(InputStream input) throws IOException {
+        return voteService.importVotes(input, this::register);
+    }
+
+    // DB 기준 (write-behind 버퍼에 남은 투표는 반영 후 내보내기부터 포함)
+    @Override
+    public void exportVotes(OutputStream output) throws IOException {
+        voteService.exportVotes(output);
+    }
+
+    // 메모리에 없으면 DB에서 불러옴 (가져오기나 다른 인스턴스에서 생성된 투표)
+    private VoteTally tally(Long id) {
+        VoteTally tally = voteEngine.find(id);
+        return tally != null ? tally : register(voteService.getVoteById(id));
+    }
+
+    private VoteTally register(VoteResponse vote) {
+        List<VoteResponse.VoteOptionResponse> options = vote.getOptions();
+        long[] optionIds = options.stream().mapToLong(VoteResponse.VoteOptionResponse::getId).toArray();
+        long[] voteCounts = options.stream().mapToLong(VoteResponse.VoteOptionResponse::getVoteCount).toArray();
+        List<String> optionTexts = options.stream()
+                .map(VoteResponse.VoteOptionResponse::getOptionText)
+                .collect(Collectors.toList());
+        Date createdAt = vote.getCreatedAt() != null
+                ? Date.from(vote.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                : new Date();
+
+        return voteEngine.register(new VoteTally(vote.getId(), vote.getQuestion(), vote.getDescription(),
+                createdAt, optionIds, optionTexts, voteCounts, vote.isActive()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.iac_sample_app.service;
+
+/**
+ * HyperLogLog 고유 원소 수 추정 (레지스터 2^precision개, 레지스터당 1바이트)
+ * 원소 수와 관계없이 메모리가 고정되며, 표준 오차는 약 1.04 / sqrt(2^precision)이다.
+ * 두 스케치의 병합은 레지스터별 최댓값이므로 여러 인스턴스의 스케치를 순서/중복과 관계없이 합칠 수 있다.
+ */
+public final class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision은 4~16이어야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    // 64비트 해시 하나 추가 (상위 precision비트로 레지스터 선택, 나머지 비트의 선행 0 개수 + 1 기록)
+    public synchronized boolean add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+        // 작은 범위는 linear counting으로 보정
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision이 다른 스케치는 병합할 수 없습니다");
+        }
+        // 상대 스케치의 복사본으로 병합하여 두 스케치의 락을 동시에 잡지 않음
+        byte[] otherRegisters = other.toBytes();
+        synchronized (this) {
+            for (int i = 0; i < registers.length; i++) {
+                registers[i] = (byte) Math.max(registers[i], otherRegisters[i + 1]);
+            }
+        }
+    }
+
+    // 직렬화 형식: [precision][레지스터 2^precision바이트]
+    public synchronized byte[] toBytes() {
+        byte[] bytes = new byte[registers.length + 1];
+        bytes[0] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 1, registers.length);
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog(bytes[0]);
+        if (bytes.length != sketch.registers.length + 1) {
+            throw new IllegalArgumentException("HyperLogLog 스케치 크기가 올바르지 않습니다: " + bytes.length);
+        }
+        System.arraycopy(bytes, 1, sketch.registers, 0, sketch.registers.length);
+        return sketch;
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.VoteResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 인메모리 투표 집계 엔진
+ * 투표는 long ID를 인덱스로 하는 배열에 보관하고, 투표하기는 락/객체 생성 없이 처리한다.
+ * 총 투표수와 비율은 조회 시점에만 계산한다.
+ * hybrid 저장소는 DB 풀링 시퀀스 ID(인스턴스마다 50개 단위로 건너뜀)를 그대로 쓰므로,
+ * ID를 인덱스로 쓰면 배열이 듬성듬성 커지기 때문에 ID를 키로 하는 맵에 보관한다.
+ */
+@Service
+public class InMemoryVoteEngine {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // 생성은 드물고 조회/투표가 대부분이므로 생성 시에만 잠그고, 읽기는 volatile 참조로 처리
+    private final Object createLock = new Object();
+    private volatile AtomicReferenceArray<VoteTally> slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private volatile long lastId = 0L;
+
+    // 외부에서 정한 ID를 쓰는 경우(hybrid) 배열 대신 사용 (null이면 배열 사용)
+    private final ConcurrentNavigableMap<Long, VoteTally> byId;
+
+    public InMemoryVoteEngine(@Value("${vote.store.type:memory}") String storeType) {
+        this.byId = "hybrid".equals(storeType) ? new ConcurrentSkipListMap<>() : null;
+    }
+
+    // 새 투표 생성
+    public VoteTally create(String question, String description, List<String> optionTexts) {
+        synchronized (createLock) {
+            long id = lastId + 1;
+            VoteTally tally = new VoteTally(id, question, description, optionTexts);
+            if (byId != null) {
+                byId.put(id, tally);
+            } else {
+                ensureCapacity(id);
+                slots.set((int) id, tally);
+            }
+            lastId = id;
+            return tally;
+        }
+    }
+
+    /**
+     * ID가 정해진 투표 등록 (DB에서 불러온 투표를 같은 ID로 올릴 때 사용)
+     * 이미 같은 ID가 있으면 기존 집계를 유지한다.
+     */
+    public VoteTally register(VoteTally tally) {
+        synchronized (createLock) {
+            long id = tally.getId();
+            if (byId != null) {
+                VoteTally existing = byId.putIfAbsent(id, tally);
+                if (existing != null) {
+                    return existing;
+                }
+            } else {
+                ensureCapacity(id);
+                if (!slots.compareAndSet((int) id, null, tally)) {
+                    return slots.get((int) id);
+                }
+            }
+            lastId = Math.max(lastId, id);
+            return tally;
+        }
+    }
+
+    // 특정 투표 조회 (없으면 null)
+    public VoteTally find(long id) {
+        if (byId != null) {
+            return byId.get(id);
+        }
+        AtomicReferenceArray<VoteTally> current = slots;
+        if (id < 1 || id >= current.length()) {
+            return null;
+        }
+        return current.get((int) id);
+    }
+
+    // 모든 투표 조회 (ID 순)
+    public List<VoteTally> findAll() {
+        if (byId != null) {
+            return new ArrayList<>(byId.values());
+        }
+        long last = lastId;
+        AtomicReferenceArray<VoteTally> current = slots;
+        List<VoteTally> result = new ArrayList<>((int) last);
+        for (int i = 1; i <= last; i++) {
+            VoteTally tally = current.get(i);
+            if (tally != null) {
+                result.add(tally);
+            }
+        }
+        return result;
+    }
+
+    // 활성 투표를 최신순(ID 역순)으로 최대 limit건 조회 (beforeId보다 작은 ID부터, null이면 가장 최근부터)
+    public List<VoteTally> findActiveBefore(Long beforeId, int limit) {
+        List<VoteTally> result = new ArrayList<>(limit);
+        if (byId != null) {
+            Map<Long, VoteTally> newestFirst = beforeId != null
+                    ? byId.headMap(beforeId, false).descendingMap()
+                    : byId.descendingMap();
+            for (VoteTally tally : newestFirst.values()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                if (tally.isActive()) {
+                    result.add(tally);
+                }
+            }
+            return result;
+        }
+
+        AtomicReferenceArray<VoteTally> current = slots;
+        long start = beforeId != null ? Math.min(beforeId - 1, lastId) : lastId;
+        for (long id = Math.min(start, current.length() - 1); id >= 1 && result.size() < limit; id--) {
+            VoteTally tally = current.get((int) id);
+            if (tally != null && tally.isActive()) {
+                result.add(tally);
+            }
+        }
+        return result;
+    }
+
+    // 투표하기
+    public VoteTally cast(long voteId, long optionId) {
+        VoteTally tally = find(voteId);
+        if (tally == null) {
+            throw new RuntimeException("투표를 찾을 수 없습니다: " + voteId);
+        }
+        if (!tally.increment(optionId)) {
+            throw new RuntimeException("유효하지 않은 투표 옵션입니다: " + optionId);
+        }
+        return tally;
+    }
+
+    // 조회 시점의 집계 결과를 VoteResponse로 변환 (VoteStore 응답용)
+    public VoteResponse toVoteResponse(VoteTally tally) {
+        int optionCount = tally.getOptionCount();
+        long[] counts = new long[optionCount];
+        long totalVotes = 0;
+        for (int i = 0; i < optionCount; i++) {
+            counts[i] = tally.getVoteCount(i);
+            totalVotes += counts[i];
+        }
+
+        List<VoteResponse.VoteOptionResponse> options = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new VoteResponse.VoteOptionResponse(
+                    tally.getOptionId(i),
+                    tally.getOptionText(i),
+                    (int) counts[i],
+                    totalVotes > 0 ? (double) counts[i] / totalVotes * 100 : 0.0));
+        }
+
+        VoteResponse response = new VoteResponse();
+        response.setId(tally.getId());
+        response.setQuestion(tally.getQuestion());
+        response.setDescription(tally.getDescription());
+        response.setTotalVotes((int) totalVotes);
+        response.setActive(tally.isActive());
+        response.setCreatedAt(LocalDateTime.ofInstant(tally.getCreatedAt().toInstant(), ZoneId.systemDefault()));
+        response.setOptions(options);
+        return response;
+    }
+
+    private void ensureCapacity(long id) {
+        AtomicReferenceArray<VoteTally> current = slots;
+        if (id < current.length()) {
+            return;
+        }
+        if (id >= Integer.MAX_VALUE) {
+            throw new IllegalStateException("더 이상 투표를 생성할 수 없습니다");
+        }
+
+        int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(id + 1, (long) current.length() * 2));
+        AtomicReferenceArray<VoteTally> grown = new AtomicReferenceArray<>(newCapacity);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        slots = grown;
+    }
+}
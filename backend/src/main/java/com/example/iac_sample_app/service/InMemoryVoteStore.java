@@ -0,0 +1,116 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.CreateVoteRequest;
+import com.example.iac_sample_app.dto.VotePageResponse;
+import com.example.iac_sample_app.dto.VoteResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 투표 저장소 (vote.store.type=memory, 기본값)
+ * vote.cast-log.enabled=true면 생성/투표를 VoteCastLog에 기록하여 재시작 후에도 집계를 복구한다.
+ */
+@Service
+@ConditionalOnProperty(name = "vote.store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVoteStore implements VoteStore {
+
+    private final InMemoryVoteEngine voteEngine;
+    private final VoteCastLog castLog;
+
+    public InMemoryVoteStore(InMemoryVoteEngine voteEngine, ObjectProvider<VoteCastLog> castLog) {
+        this.voteEngine = voteEngine;
+        this.castLog = castLog.getIfAvailable();
+    }
+
+    // 메모리 저장소는 ID가 생성 순이므로 ID만으로 커서를 처리 (커서의 createdAt은 첫 페이지 여부 판단에만 사용)
+    @Override
+    public VotePageResponse findPage(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = VotePageResponse.clampSize(size);
+        Long beforeId = (cursorCreatedAt == null || cursorId == null) ? null : cursorId;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<VoteTally> tallies = voteEngine.findActiveBefore(beforeId, pageSize + 1);
+
+        boolean hasNext = tallies.size() > pageSize;
+        if (hasNext) {
+            tallies = tallies.subList(0, pageSize);
+        }
+        if (tallies.isEmpty()) {
+            return new VotePageResponse(List.of(), null, null, false);
+        }
+
+        List<VoteResponse> votes = tallies.stream()
+                .map(voteEngine::toVoteResponse)
+                .collect(Collectors.toList());
+        VoteResponse last = votes.get(votes.size() - 1);
+        return new VotePageResponse(votes, last.getCreatedAt(), last.getId(), hasNext);
+    }
+
+    @Override
+    public VoteResponse findById(Long id) {
+        VoteTally tally = voteEngine.find(id);
+        if (tally == null) {
+            throw new RuntimeException("투표를 찾을 수 없습니다: " + id);
+        }
+        return voteEngine.toVoteResponse(tally);
+    }
+
+    @Override
+    public VoteResponse create(CreateVoteRequest request) {
+        VoteTally tally = voteEngine.create(request.getQuestion(), request.getDescription(), request.getOptions());
+        if (castLog != null) {
+            castLog.recordCreate(tally);
+        }
+        return voteEngine.toVoteResponse(tally);
+    }
+
+    @Override
+    public List<VoteResponse> createAll(List<CreateVoteRequest> requests) {
+        return requests.stream()
+                .map(this::create)
+                .collect(Collectors.toList());
+    }
+
+    // 카운터 증가는 락 없이 처리하고, 총합과 비율은 응답 생성 시점에 계산
+    // (로그 사용 시에는 옵션을 먼저 검증한 뒤 로그 추가와 함께 증가)
+    @Override
+    public VoteResponse cast(Long voteId, Long optionId) {
+        if (castLog == null) {
+            return voteEngine.toVoteResponse(voteEngine.cast(voteId, optionId));
+        }
+
+        VoteTally tally = voteEngine.find(voteId);
+        if (tally == null) {
+            throw new RuntimeException("투표를 찾을 수 없습니다: " + voteId);
+        }
+        if (tally.indexOf(optionId) < 0) {
+            throw new RuntimeException("유효하지 않은 투표 옵션입니다: " + optionId);
+        }
+        castLog.recordCast(voteId, optionId, () -> tally.increment(optionId));
+        return voteEngine.toVoteResponse(tally);
+    }
+
+    // 가져오기/내보내기는 DB 기준이므로 DB를 쓰지 않는 저장소에서는 거절
+    @Override
+    public long importVotes(InputStream input) {
+        throw unsupported();
+    }
+
+    @Override
+    public void exportVotes(OutputStream output) {
+        throw unsupported();
+    }
+
+    private static ResponseStatusException unsupported() {
+        return new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED,
+                "memory 저장소는 투표 가져오기/내보내기를 지원하지 않습니다 (vote.store.type=jpa 또는 hybrid 필요)");
+    }
+}
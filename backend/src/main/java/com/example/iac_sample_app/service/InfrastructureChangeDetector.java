@@ -0,0 +1,161 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 스냅샷 변경 감지기
+ * 갱신 전후 스냅샷을 비교해 리소스 상태가 바뀐 항목만 이벤트로 만든다.
+ */
+final class InfrastructureChangeDetector {
+
+    private InfrastructureChangeDetector() {
+    }
+
+    /**
+     * 한 섹션 갱신으로 생긴 변경 이벤트 목록
+     * 섹션 자체의 변경과 함께 섹션 오류, 회로 차단기 상태 전이도 포함한다.
+     */
+    static List<InfrastructureChangeEvent> detect(String section, InfrastructureStatusResponse before,
+                                                  InfrastructureStatusResponse after) {
+        Events events = new Events(section, after.getVersion());
+
+        switch (section) {
+            case "ec2":
+                events.compare("ec2-state-changed",
+                        ec2States(before.getEc2Instances()), ec2States(after.getEc2Instances()));
+                break;
+            case "alb":
+                ALBInfoDto beforeAlb = before.getLoadBalancer();
+                ALBInfoDto afterAlb = after.getLoadBalancer();
+                events.compare("alb-state-changed", resourceId(beforeAlb, afterAlb, ALBInfoDto::getDnsName),
+                        beforeAlb != null ? beforeAlb.getState() : null,
+                        afterAlb != null ? afterAlb.getState() : null);
+                events.compare("target-health-changed", targetStates(beforeAlb), targetStates(afterAlb));
+                break;
+            case "rds":
+                RDSInfoDto beforeRds = before.getDatabase();
+                RDSInfoDto afterRds = after.getDatabase();
+                events.compare("rds-status-changed", resourceId(beforeRds, afterRds, RDSInfoDto::getIdentifier),
+                        beforeRds != null ? beforeRds.getStatus() : null,
+                        afterRds != null ? afterRds.getStatus() : null);
+                break;
+            case "s3":
+                S3InfoDto beforeS3 = before.getStorage();
+                S3InfoDto afterS3 = after.getStorage();
+                events.compare("s3-access-changed", resourceId(beforeS3, afterS3, S3InfoDto::getBucketName),
+                        beforeS3 != null ? beforeS3.getPublicAccessStatus() : null,
+                        afterS3 != null ? afterS3.getPublicAccessStatus() : null);
+                break;
+            case "cloudfront":
+                CloudFrontInfoDto beforeCdn = before.getCdn();
+                CloudFrontInfoDto afterCdn = after.getCdn();
+                events.compare("cloudfront-status-changed",
+                        resourceId(beforeCdn, afterCdn, CloudFrontInfoDto::getDistributionId),
+                        beforeCdn != null ? beforeCdn.getStatus() : null,
+                        afterCdn != null ? afterCdn.getStatus() : null);
+                break;
+            case "vpc":
+                VPCInfoDto beforeVpc = before.getNetwork();
+                VPCInfoDto afterVpc = after.getNetwork();
+                events.compare("vpc-state-changed", resourceId(beforeVpc, afterVpc, VPCInfoDto::getVpcId),
+                        beforeVpc != null ? beforeVpc.getState() : null,
+                        afterVpc != null ? afterVpc.getState() : null);
+                break;
+            default:
+                break;
+        }
+
+        events.compare("section-error", section,
+                errorOf(before, section), errorOf(after, section));
+        events.compare("circuit-breaker-changed",
+                orEmpty(before.getCircuitBreakers()), orEmpty(after.getCircuitBreakers()));
+        return events.list;
+    }
+
+    private static Map<String, String> ec2States(List<EC2InfoDto> instances) {
+        Map<String, String> states = new LinkedHashMap<>();
+        if (instances != null) {
+            for (EC2InfoDto instance : instances) {
+                states.put(instance.getInstanceId(), instance.getState());
+            }
+        }
+        return states;
+    }
+
+    // Target Group 이름/타겟 ID -> 헬스 상태
+    private static Map<String, String> targetStates(ALBInfoDto alb) {
+        Map<String, String> states = new LinkedHashMap<>();
+        if (alb != null && alb.getTargetGroups() != null) {
+            for (TargetGroupInfoDto targetGroup : alb.getTargetGroups()) {
+                if (targetGroup.getTargets() == null) {
+                    continue;
+                }
+                for (TargetHealthDto target : targetGroup.getTargets()) {
+                    states.put(targetGroup.getName() + "/" + target.getTargetId(), target.getHealthStatus());
+                }
+            }
+        }
+        return states;
+    }
+
+    private static <T> String resourceId(T before, T after, Function<T, String> id) {
+        T source = after != null ? after : before;
+        return source != null ? id.apply(source) : null;
+    }
+
+    private static String errorOf(InfrastructureStatusResponse snapshot, String section) {
+        return snapshot.getSectionErrors() != null ? snapshot.getSectionErrors().get(section) : null;
+    }
+
+    private static Map<String, String> orEmpty(Map<String, String> map) {
+        return map != null ? map : Collections.emptyMap();
+    }
+
+    private static final class Events {
+
+        private final String section;
+        private final Long version;
+        private final LocalDateTime detectedAt = LocalDateTime.now();
+        private final List<InfrastructureChangeEvent> list = new ArrayList<>();
+
+        private Events(String section, Long version) {
+            this.section = section;
+            this.version = version;
+        }
+
+        private void compare(String type, String resourceId, String previous, String current) {
+            if (Objects.equals(previous, current)) {
+                return;
+            }
+            list.add(InfrastructureChangeEvent.builder()
+                    .type(type)
+                    .section(section)
+                    .resourceId(resourceId)
+                    .previous(previous)
+                    .current(current)
+                    .version(version)
+                    .detectedAt(detectedAt)
+                    .build());
+        }
+
+        // 리소스 ID별 상태 맵 비교 (추가/삭제된 리소스는 한쪽 상태가 null)
+        private void compare(String type, Map<String, String> before, Map<String, String> after) {
+            Set<String> ids = new LinkedHashSet<>(before.keySet());
+            ids.addAll(after.keySet());
+            for (String id : ids) {
+                compare(type, id, before.get(id), after.get(id));
+            }
+        }
+    }
+}
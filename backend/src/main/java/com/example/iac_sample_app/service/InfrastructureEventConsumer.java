@@ -0,0 +1,190 @@
+package com.example.iac_sample_app.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.ec2.model.InstanceStateName;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQS 기반 인프라 변경 이벤트 수신기 (aws.events.sqs.enabled=true일 때만 동작)
+ * EventBridge 규칙이 SQS로 전달한 EC2 상태 변경, ELB, RDS 이벤트를 롱 폴링으로 묶어서 받고,
+ * 해당 스냅샷 섹션만 직접 수정하거나 다시 조회하도록 요청한다.
+ * 이벤트로 변경을 바로 반영하므로 스냅샷 주기 조회 간격은 안전망 수준으로 늘려 describe 호출을 줄일 수 있다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "aws.events.sqs.enabled", havingValue = "true")
+public class InfrastructureEventConsumer {
+
+    private final SqsAsyncClient sqsClient;
+    private final InfrastructureSnapshotService snapshotService;
+    private final ObjectMapper objectMapper;
+    private final String queueUrl;
+    private final int waitTimeSeconds;
+    private final int maxMessages;
+    private final long errorBackoffMs;
+
+    private volatile boolean running = true;
+
+    public InfrastructureEventConsumer(SqsAsyncClient sqsClient,
+                                       InfrastructureSnapshotService snapshotService,
+                                       ObjectMapper objectMapper,
+                                       @Value("${aws.events.sqs.queue-url}") String queueUrl,
+                                       @Value("${aws.events.sqs.wait-time-seconds:20}") int waitTimeSeconds,
+                                       @Value("${aws.events.sqs.max-messages:10}") int maxMessages,
+                                       @Value("${aws.events.sqs.error-backoff-ms:5000}") long errorBackoffMs) {
+        this.sqsClient = sqsClient;
+        this.snapshotService = snapshotService;
+        this.objectMapper = objectMapper;
+        this.queueUrl = queueUrl;
+        this.waitTimeSeconds = waitTimeSeconds;
+        this.maxMessages = maxMessages;
+        this.errorBackoffMs = errorBackoffMs;
+    }
+
+    @PostConstruct
+    void start() {
+        log.info("SQS 인프라 이벤트 수신 시작: {}", queueUrl);
+        poll();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+    }
+
+    /**
+     * 롱 폴링 수신 루프
+     * 응답이 오면 처리 후 다음 수신을 요청하므로 대기 중에 스레드를 점유하지 않는다.
+     */
+    private void poll() {
+        if (!running) {
+            return;
+        }
+
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder()
+                .queueUrl(queueUrl)
+                .waitTimeSeconds(waitTimeSeconds)
+                .maxNumberOfMessages(maxMessages)
+                .build();
+
+        sqsClient.receiveMessage(request)
+                .thenCompose(response -> handle(response.messages()))
+                .whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        poll();
+                        return;
+                    }
+                    log.warn("SQS 인프라 이벤트 수신 실패, {}ms 후 재시도: {}", errorBackoffMs, error.getMessage());
+                    CompletableFuture.delayedExecutor(errorBackoffMs, TimeUnit.MILLISECONDS).execute(this::poll);
+                });
+    }
+
+    // 받은 메시지를 처리하고, 처리된 메시지만 한 번에 삭제 (실패한 메시지는 가시성 제한 시간 후 재수신)
+    private CompletableFuture<Void> handle(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<DeleteMessageBatchRequestEntry> processed = new ArrayList<>(messages.size());
+        Set<String> sectionsToRefresh = new LinkedHashSet<>();
+        for (Message message : messages) {
+            try {
+                sectionsToRefresh.addAll(apply(message.body()));
+                processed.add(DeleteMessageBatchRequestEntry.builder()
+                        .id(message.messageId())
+                        .receiptHandle(message.receiptHandle())
+                        .build());
+            } catch (RuntimeException e) {
+                log.warn("SQS 인프라 이벤트 처리 실패: {}", message.messageId(), e);
+            }
+        }
+
+        // 같은 배치에서 여러 번 요청된 섹션은 한 번만 다시 조회
+        sectionsToRefresh.forEach(this::refresh);
+
+        if (processed.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return sqsClient.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(processed)
+                        .build())
+                .thenAccept(response -> {
+                    if (response.hasFailed() && !response.failed().isEmpty()) {
+                        log.warn("SQS 메시지 {}건 삭제 실패", response.failed().size());
+                    }
+                });
+    }
+
+    /**
+     * 이벤트 하나를 스냅샷에 반영
+     * 직접 반영할 수 없는 이벤트는 다시 조회할 섹션 이름을 반환한다.
+     */
+    private List<String> apply(String body) {
+        JsonNode event = unwrapNotification(readTree(body));
+        String source = event.path("source").asText();
+        JsonNode detail = event.path("detail");
+
+        switch (source) {
+            case "aws.ec2":
+                String instanceId = detail.path("instance-id").asText(null);
+                String state = detail.path("state").asText(null);
+                if (instanceId == null || state == null) {
+                    return List.of();
+                }
+                // 스냅샷에 있는 인스턴스는 상태만 바로 반영, 모르는 인스턴스면 EC2 섹션을 다시 조회
+                return snapshotService.patchEc2InstanceState(instanceId, InstanceStateName.fromValue(state))
+                        ? List.of() : List.of("ec2");
+            case "aws.elasticloadbalancing":
+                return List.of("alb");
+            case "aws.rds":
+                return List.of("rds");
+            default:
+                log.debug("처리하지 않는 인프라 이벤트: {}", source);
+                return List.of();
+        }
+    }
+
+    private void refresh(String section) {
+        switch (section) {
+            case "ec2" -> snapshotService.refreshEc2();
+            case "alb" -> snapshotService.refreshAlb();
+            case "rds" -> snapshotService.refreshRds();
+            default -> log.debug("다시 조회하지 않는 섹션: {}", section);
+        }
+    }
+
+    // SNS를 거쳐 전달된 경우 Message 필드 안의 원본 이벤트를 꺼냄
+    private JsonNode unwrapNotification(JsonNode node) {
+        if ("Notification".equals(node.path("Type").asText()) && node.path("Message").isTextual()) {
+            return readTree(node.path("Message").asText());
+        }
+        return node;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new RuntimeException("인프라 이벤트 메시지를 해석할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.InfrastructureChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 인프라 상태 변경 이벤트 스트림(SSE) 발행기
+ * 스냅샷 갱신 시 감지된 변경 이벤트를 큐에 쌓아 두고, 주기적으로 한 번씩 직렬화해 모든 구독자에게 전송한다.
+ * 이벤트 ID는 스냅샷 버전이므로, 재연결한 클라이언트는 /status?since=<마지막 이벤트 ID>로 놓친 변경을 받을 수 있다.
+ * 전송은 SseFanout의 전송 스레드에서 처리하며, 밀린 구독자는 연결을 닫으므로 재연결 후 since로 따라잡는다.
+ */
+@Slf4j
+@Service
+public class InfrastructureEventPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+
+    private final SseFanout fanout;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Queue<InfrastructureChangeEvent> pending = new ConcurrentLinkedQueue<>();
+
+    public InfrastructureEventPublisher(ObjectMapper objectMapper,
+                                        @Value("${aws.events.timeout-ms:1800000}") long emitterTimeoutMs,
+                                        @Value("${aws.events.send-threads:2}") int sendThreads,
+                                        @Value("${aws.events.max-pending-events:64}") int maxPendingEvents) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.fanout = new SseFanout("infra-events-send", sendThreads, maxPendingEvents);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanout.shutdown();
+    }
+
+    // 구독 등록 후 현재 스냅샷 버전을 첫 이벤트로 전송
+    public SseEmitter subscribe(long currentVersion) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        fanout.register(emitter, () -> {
+            log.debug("인프라 이벤트 스트림 구독자 연결 종료");
+            unsubscribe(emitter);
+        });
+        emitters.add(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+        emitter.onError(e -> unsubscribe(emitter));
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(currentVersion))
+                    .name("connected")
+                    .data(Map.of("version", currentVersion), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            unsubscribe(emitter);
+        }
+        return emitter;
+    }
+
+    /**
+     * 변경 이벤트 적재 (스냅샷 갱신 경로에서 호출)
+     * 구독자가 없으면 버린다.
+     */
+    public void publish(List<InfrastructureChangeEvent> events) {
+        if (events.isEmpty() || emitters.isEmpty()) {
+            return;
+        }
+        pending.addAll(events);
+    }
+
+    // 쌓인 변경 이벤트를 주기적으로 전송 (SDK 응답 스레드에서 느린 구독자에게 쓰지 않도록 분리)
+    @Scheduled(fixedDelayString = "${aws.events.publish-interval-ms:500}")
+    public void publishPending() {
+        InfrastructureChangeEvent event;
+        while ((event = pending.poll()) != null) {
+            broadcast(SseEmitter.event()
+                    .id(String.valueOf(event.getVersion()))
+                    .name(event.getType())
+                    .data(toJson(event), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    // 끊어진 연결 정리를 위한 주기적 heartbeat
+    @Scheduled(fixedDelayString = "${aws.events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        broadcast(SseEmitter.event().comment("heartbeat"));
+    }
+
+    // 이벤트는 한 번만 만들고, 실제 전송은 구독자별 대기열을 통해 전송 스레드에서 처리
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> data = event.build();
+        for (SseEmitter emitter : emitters) {
+            fanout.send(emitter, data);
+        }
+    }
+
+    private void unsubscribe(SseEmitter emitter) {
+        fanout.remove(emitter);
+        emitters.remove(emitter);
+    }
+
+    private String toJson(InfrastructureChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("인프라 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.EC2InfoDto;
+import com.example.iac_sample_app.dto.InfrastructureStatusResponse;
+import com.example.iac_sample_app.dto.InfrastructureStatusResponse.InfrastructureStatusResponseBuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.ec2.model.InstanceStateName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 인프라 상태 스냅샷 서비스
+ * 리소스별로 설정된 주기마다 AWS에서 정보를 수집해 불변 스냅샷을 교체하고,
+ * 컨트롤러는 AWS를 호출하지 않고 현재 스냅샷만 반환한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InfrastructureSnapshotService {
+
+    private static final List<String> SECTIONS = List.of("ec2", "alb", "rds", "s3", "cloudfront", "vpc");
+
+    private final AwsResourceService awsResourceService;
+    private final InfrastructureEventPublisher eventPublisher;
+
+    // 리소스별 조회 제한 시간 (ALB처럼 API를 순서대로 여러 번 호출하는 조회도 있으므로 API 호출 제한 시간보다 길어야 함)
+    @Value("${aws.collector.timeout-ms:30000}")
+    private long collectorTimeoutMs;
+
+    @Value("${aws.client.api-call-timeout-ms:10000}")
+    private long apiCallTimeoutMs;
+
+    private final AtomicReference<InfrastructureStatusResponse> snapshot = new AtomicReference<>(
+            InfrastructureStatusResponse.builder()
+                    .status("connecting")
+                    .message("AWS 리소스 정보를 수집 중입니다")
+                    .progress(0)
+                    // 재시작 후에도 이전 버전보다 커지도록 시작 시각을 기준 버전으로 사용
+                    .version(System.currentTimeMillis())
+                    .sectionVersions(Collections.emptyMap())
+                    .sectionUpdatedAt(Collections.emptyMap())
+                    .build());
+
+    // 수집 중인 섹션 -> 수집 중에 다시 요청되었는지 여부
+    // 진행 중에 들어온 요청(이벤트 등)은 하나로 합쳐, 진행 중인 수집이 끝난 뒤 한 번 더 수집한다.
+    private final Map<String, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void validateTimeouts() {
+        if (collectorTimeoutMs <= apiCallTimeoutMs) {
+            // 더 짧으면 SDK 재시도가 끝나기 전에 조회를 포기해 일시적인 지연도 섹션 오류로 표시됨
+            throw new IllegalArgumentException("aws.collector.timeout-ms(" + collectorTimeoutMs
+                    + ")는 aws.client.api-call-timeout-ms(" + apiCallTimeoutMs + ")보다 커야 합니다");
+        }
+    }
+
+    /**
+     * 현재 인프라 상태 스냅샷
+     */
+    public InfrastructureStatusResponse getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 지정한 버전 이후 내용이 바뀐 섹션만 담은 스냅샷
+     * 현재보다 큰(알 수 없는) 버전이면 전체 섹션을 담아 반환한다.
+     */
+    public InfrastructureStatusResponse getChangesSince(long since) {
+        InfrastructureStatusResponse current = snapshot.get();
+        boolean unknownVersion = since > current.getVersion();
+
+        List<String> changedSections = new ArrayList<>();
+        for (String section : SECTIONS) {
+            Long sectionVersion = current.getSectionVersions().get(section);
+            if (unknownVersion || (sectionVersion != null && sectionVersion > since)) {
+                changedSections.add(section);
+            }
+        }
+
+        InfrastructureStatusResponseBuilder builder = current.toBuilder()
+                .changedSections(Collections.unmodifiableList(changedSections));
+        if (!changedSections.contains("ec2")) {
+            builder.ec2Instances(null);
+        }
+        if (!changedSections.contains("alb")) {
+            builder.loadBalancer(null);
+        }
+        if (!changedSections.contains("rds")) {
+            builder.database(null);
+        }
+        if (!changedSections.contains("s3")) {
+            builder.storage(null);
+        }
+        if (!changedSections.contains("cloudfront")) {
+            builder.cdn(null);
+        }
+        if (!changedSections.contains("vpc")) {
+            builder.network(null);
+        }
+        return builder.build();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${aws.snapshot.ec2-interval-ms:30000}")
+    public void refreshEc2() {
+        refresh("ec2", awsResourceService::getEC2Info,
+                InfrastructureStatusResponse::getEc2Instances, InfrastructureStatusResponseBuilder::ec2Instances);
+    }
+
+    // Target Health를 포함하므로 가장 자주 갱신
+    @Scheduled(initialDelay = 0, fixedDelayString = "${aws.snapshot.alb-interval-ms:15000}")
+    public void refreshAlb() {
+        refresh("alb", awsResourceService::getALBInfo,
+                InfrastructureStatusResponse::getLoadBalancer, InfrastructureStatusResponseBuilder::loadBalancer);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${aws.snapshot.rds-interval-ms:60000}")
+    public void refreshRds() {
+        refresh("rds", awsResourceService::getRDSInfo,
+                InfrastructureStatusResponse::getDatabase, InfrastructureStatusResponseBuilder::database);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${aws.snapshot.s3-interval-ms:300000}")
+    public void refreshS3() {
+        refresh("s3", awsResourceService::getS3Info,
+                InfrastructureStatusResponse::getStorage, InfrastructureStatusResponseBuilder::storage);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${aws.snapshot.cloudfront-interval-ms:300000}")
+    public void refreshCloudFront() {
+        refresh("cloudfront", awsResourceService::getCloudFrontInfo,
+                InfrastructureStatusResponse::getCdn, InfrastructureStatusResponseBuilder::cdn);
+    }
+
+    // VPC는 거의 바뀌지 않으므로 드물게 갱신
+    @Scheduled(initialDelay = 0, fixedDelayString = "${aws.snapshot.vpc-interval-ms:600000}")
+    public void refreshVpc() {
+        refresh("vpc", awsResourceService::getVPCInfo,
+                InfrastructureStatusResponse::getNetwork, InfrastructureStatusResponseBuilder::network);
+    }
+
+    /**
+     * 섹션 하나를 비동기로 수집해 스냅샷에 반영
+     * 스케줄러 스레드는 요청만 보내고 바로 반환하며, 결과는 SDK 응답 스레드에서 반영된다.
+     * 이미 수집 중이면 진행 중인 수집이 시작된 뒤의 변경을 놓치지 않도록 끝난 뒤 한 번 더 수집한다.
+     */
+    private <T> void refresh(String section, Supplier<CompletableFuture<T>> collector,
+                             Function<InfrastructureStatusResponse, T> getter,
+                             BiConsumer<InfrastructureStatusResponseBuilder, T> setter) {
+        if (inFlight.merge(section, Boolean.FALSE, (running, ignored) -> Boolean.TRUE)) {
+            log.debug("{} 정보 수집이 아직 진행 중이어서 끝난 뒤 다시 수집합니다", section);
+            return;
+        }
+        collect(section, collector, getter, setter);
+    }
+
+    private <T> void collect(String section, Supplier<CompletableFuture<T>> collector,
+                             Function<InfrastructureStatusResponse, T> getter,
+                             BiConsumer<InfrastructureStatusResponseBuilder, T> setter) {
+        CompletableFuture<T> future;
+        try {
+            future = collector.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.orTimeout(collectorTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    try {
+                        apply(section, previous -> value, error, getter, setter);
+                    } finally {
+                        if (!inFlight.remove(section, Boolean.FALSE)) {
+                            // 수집 중에 다시 요청됨 (이후 요청은 이번 수집에 합쳐짐)
+                            inFlight.put(section, Boolean.FALSE);
+                            collect(section, collector, getter, setter);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * 수집 결과(또는 이벤트로 받은 변경)를 스냅샷에 반영
+     * 새 값은 반영 시점의 현재 값으로부터 계산하므로, 동시에 반영되는 갱신을 덮어쓰지 않는다.
+     */
+    private <T> void apply(String section, UnaryOperator<T> nextValue, Throwable error,
+                           Function<InfrastructureStatusResponse, T> getter,
+                           BiConsumer<InfrastructureStatusResponseBuilder, T> setter) {
+        LocalDateTime now = LocalDateTime.now();
+        String errorMessage = error != null ? describe(error) : null;
+        if (errorMessage != null) {
+            // 실패 시(회로 차단 포함) 마지막으로 정상 조회된 값을 계속 제공
+            log.warn("{} 정보 수집 실패, 이전 값을 유지합니다: {}", section, errorMessage);
+        }
+
+        Map<String, String> circuitBreakerStates =
+                Collections.unmodifiableMap(awsResourceService.getCircuitBreakerStates());
+
+        InfrastructureStatusResponse before;
+        InfrastructureStatusResponse after;
+        do {
+            before = snapshot.get();
+            T value = errorMessage == null ? nextValue.apply(getter.apply(before)) : null;
+            after = update(before, section, value, errorMessage, now, circuitBreakerStates, getter, setter);
+        } while (!snapshot.compareAndSet(before, after));
+
+        // 내용이 바뀐 경우에만 리소스별 상태 전이를 이벤트로 발행
+        if (!after.getVersion().equals(before.getVersion())) {
+            eventPublisher.publish(InfrastructureChangeDetector.detect(section, before, after));
+        }
+    }
+
+    private <T> InfrastructureStatusResponse update(InfrastructureStatusResponse current, String section, T value,
+                                                    String errorMessage, LocalDateTime now,
+                                                    Map<String, String> circuitBreakerStates,
+                                                    Function<InfrastructureStatusResponse, T> getter,
+                                                    BiConsumer<InfrastructureStatusResponseBuilder, T> setter) {
+        Map<String, String> sectionErrors = current.getSectionErrors() != null
+                ? new TreeMap<>(current.getSectionErrors()) : new TreeMap<>();
+        Map<String, LocalDateTime> sectionUpdatedAt = new TreeMap<>(current.getSectionUpdatedAt());
+        InfrastructureStatusResponseBuilder builder = current.toBuilder();
+        boolean sectionChanged = false;
+
+        if (errorMessage == null) {
+            sectionChanged = !Objects.equals(getter.apply(current), value);
+            setter.accept(builder, value);
+            sectionErrors.remove(section);
+            sectionUpdatedAt.put(section, now);
+            builder.lastUpdated(now);
+        } else {
+            sectionErrors.put(section, errorMessage);
+        }
+
+        builder.circuitBreakers(circuitBreakerStates);
+        InfrastructureStatusResponse updated = withOverallStatus(builder, sectionErrors, sectionUpdatedAt).build();
+
+        // 갱신 시각만 바뀐 경우에는 버전을 유지하여 클라이언트가 304를 받도록 함
+        if (!sectionChanged && !hasStatusChanged(current, updated)) {
+            return updated;
+        }
+        long version = current.getVersion() + 1;
+        Map<String, Long> sectionVersions = new TreeMap<>(current.getSectionVersions());
+        if (sectionChanged) {
+            sectionVersions.put(section, version);
+        }
+        return updated.toBuilder()
+                .version(version)
+                .sectionVersions(Collections.unmodifiableMap(sectionVersions))
+                .build();
+    }
+
+    /**
+     * 상태 변경 이벤트로 받은 EC2 인스턴스 상태를 describe 호출 없이 스냅샷에 반영
+     * 스냅샷에 없는 인스턴스면 false를 반환한다 (호출자가 섹션 갱신을 요청).
+     */
+    public boolean patchEc2InstanceState(String instanceId, InstanceStateName state) {
+        List<EC2InfoDto> instances = snapshot.get().getEc2Instances();
+        if (instances == null || instances.stream().noneMatch(i -> instanceId.equals(i.getInstanceId()))) {
+            return false;
+        }
+
+        apply("ec2", current -> current == null ? null : current.stream()
+                        .map(instance -> instanceId.equals(instance.getInstanceId())
+                                ? instance.toBuilder()
+                                        .state(state.toString())
+                                        .healthStatus(AwsResourceService.getInstanceHealthStatus(state))
+                                        .build()
+                                : instance)
+                        .collect(Collectors.toList()),
+                null, InfrastructureStatusResponse::getEc2Instances, InfrastructureStatusResponseBuilder::ec2Instances);
+        return true;
+    }
+
+    private boolean hasStatusChanged(InfrastructureStatusResponse before, InfrastructureStatusResponse after) {
+        return !Objects.equals(before.getStatus(), after.getStatus())
+                || !Objects.equals(before.getProgress(), after.getProgress())
+                || !Objects.equals(before.getSectionErrors(), after.getSectionErrors())
+                || !Objects.equals(before.getCircuitBreakers(), after.getCircuitBreakers());
+    }
+
+    // 섹션별 수집 결과로부터 전체 상태와 진행률 계산
+    private InfrastructureStatusResponseBuilder withOverallStatus(InfrastructureStatusResponseBuilder builder,
+                                                                  Map<String, String> sectionErrors,
+                                                                  Map<String, LocalDateTime> sectionUpdatedAt) {
+        Set<String> attempted = new HashSet<>(sectionUpdatedAt.keySet());
+        attempted.addAll(sectionErrors.keySet());
+
+        builder.sectionErrors(sectionErrors.isEmpty() ? null : Collections.unmodifiableMap(sectionErrors))
+                .sectionUpdatedAt(Collections.unmodifiableMap(sectionUpdatedAt))
+                .progress(attempted.size() * 100 / SECTIONS.size());
+
+        if (attempted.size() < SECTIONS.size()) {
+            return builder.status("connecting")
+                    .message("AWS 리소스 정보를 수집 중입니다");
+        }
+        if (sectionUpdatedAt.isEmpty()) {
+            return builder.status("error")
+                    .message("리소스 정보를 가져오는 중 오류가 발생했습니다");
+        }
+        if (!sectionErrors.isEmpty()) {
+            return builder.status("partial")
+                    .message("일부 리소스 정보를 가져오지 못했습니다");
+        }
+        return builder.status("connected")
+                .message("모든 리소스가 정상적으로 연결되었습니다");
+    }
+
+    private String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof TimeoutException
+                ? "조회 시간 초과 (" + collectorTimeoutMs + "ms)"
+                : String.valueOf(cause.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.CreateVoteRequest;
+import com.example.iac_sample_app.dto.VotePageResponse;
+import com.example.iac_sample_app.dto.VoteResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DB 투표 저장소 (vote.store.type=jpa)
+ * 조회는 투표 상세 캐시를, 투표하기는 write-behind 버퍼 또는 원자적 증가 쿼리를 거친다.
+ */
+@Service
+@ConditionalOnProperty(name = "vote.store.type", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaVoteStore implements VoteStore {
+
+    private final VoteService voteService;
+
+    @Override
+    public VotePageResponse findPage(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        return voteService.getActiveVotes(cursorCreatedAt, cursorId, size);
+    }
+
+    @Override
+    public VoteResponse findById(Long id) {
+        return voteService.getVoteById(id);
+    }
+
+    @Override
+    public VoteResponse create(CreateVoteRequest request) {
+        return voteService.createVote(request);
+    }
+
+    @Override
+    public List<VoteResponse> createAll(List<CreateVoteRequest> requests) {
+        return voteService.createVotes(requests);
+    }
+
+    @Override
+    public VoteResponse cast(Long voteId, Long optionId) {
+        return voteService.castVote(voteId, optionId);
+    }
+
+    @Override
+    public long importVotes(InputStream input) throws IOException {
+        return voteService.importVotes(input, vote -> { });
+    }
+
+    @Override
+    public void exportVotes(OutputStream output) throws IOException {
+        voteService.exportVotes(output);
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.config.SchedulingConfig;
+import com.example.iac_sample_app.dto.VoteResponse;
+import com.example.iac_sample_app.entity.VoteOptionShard;
+import com.example.iac_sample_app.repository.VoteOptionRepository;
+import com.example.iac_sample_app.repository.VoteOptionShardRepository;
+import com.example.iac_sample_app.repository.VoteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 투표수 즉시 증가 경로의 분산 카운터 (vote.sharding.enabled=true일 때 사용)
+ * 투표별 초당 투표 수가 임계값을 넘으면 옵션마다 샤드 행 N개를 만들고, 이후 증가는 임의의 샤드 행에만 반영해
+ * 같은 vote_options/votes 행의 락을 기다리며 직렬화되지 않도록 한다.
+ * 조회 결과에는 샤드 합계를 더하고, 샤드 값은 주기적으로 vote_options/votes에 합산한 뒤 0으로 되돌린다.
+ * write-behind 버퍼는 이미 옵션별로 합산해 반영하므로 즉시 증가 경로에만 적용한다.
+ */
+@Slf4j
+@Component
+public class ShardedVoteCounter {
+
+    private final VoteRepository voteRepository;
+    private final VoteOptionRepository voteOptionRepository;
+    private final VoteOptionShardRepository shardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int shards;
+    private final long windowMs;
+    private final long thresholdPerWindow;
+
+    // 현재 측정 구간의 투표별 투표 수
+    private final Map<Long, LongAdder> castsInWindow = new ConcurrentHashMap<>();
+    // 분산 카운터를 사용하는 활성 투표 -> 샤드 수 (샤드 증가 시 투표 행을 조회하지 않도록 활성 여부를 메모리에서 확인)
+    // 비활성화된 투표는 제거되어 활성 여부를 확인하는 옵션 증가 경로로 거절된다.
+    // 다른 인스턴스의 전환/비활성화는 compaction 주기에 반영 (그 사이 비활성화된 투표의 샤드 증가는 최대 한 주기 허용)
+    private final Map<Long, Integer> shardedVotes = new ConcurrentHashMap<>();
+
+    public ShardedVoteCounter(VoteRepository voteRepository,
+                              VoteOptionRepository voteOptionRepository,
+                              VoteOptionShardRepository shardRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${vote.sharding.enabled:false}") boolean enabled,
+                              @Value("${vote.sharding.shards:16}") int shards,
+                              @Value("${vote.sharding.window-ms:1000}") long windowMs,
+                              @Value("${vote.sharding.threshold-casts-per-second:200}") long thresholdPerSecond) {
+        this.voteRepository = voteRepository;
+        this.voteOptionRepository = voteOptionRepository;
+        this.shardRepository = shardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.shards = shards;
+        this.windowMs = windowMs;
+        this.thresholdPerWindow = Math.max(1, thresholdPerSecond * windowMs / 1000);
+    }
+
+    /**
+     * 투표수 1 증가 (VoteOptionRepository.incrementVoteCounts 대체)
+     * 반영된 행 수를 반환하며, 0이면 유효하지 않은 투표 또는 옵션이다.
+     */
+    public int increment(Long voteId, Long optionId) {
+        if (!enabled) {
+            return voteOptionRepository.incrementVoteCounts(voteId, optionId);
+        }
+
+        castsInWindow.computeIfAbsent(voteId, id -> new LongAdder()).increment();
+        Integer voteShards = shardedVotes.get(voteId);
+        if (voteShards == null) {
+            return voteOptionRepository.incrementVoteCounts(voteId, optionId);
+        }
+        return shardRepository.incrementShard(voteId, optionId, ThreadLocalRandom.current().nextInt(voteShards));
+    }
+
+    // 투표 비활성화 시 호출 (이후 투표하기는 샤드 대신 활성 여부를 확인하는 증가 쿼리로 처리)
+    public void deactivated(Long voteId) {
+        shardedVotes.remove(voteId);
+    }
+
+    // 분산 카운터를 사용하는 투표 ID (비활성화 포함, 분산 카운터를 끄면 빈 목록)
+    public List<Long> findShardedVoteIds() {
+        if (!enabled) {
+            return List.of();
+        }
+        return voteRepository.findShardedVotes().stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+    }
+
+    // 분산 카운터를 사용하는 투표면 샤드 합계를 더한 응답 (아니면 그대로 반환)
+    public VoteResponse applyShards(VoteResponse vote, int counterShards) {
+        if (counterShards == 0) {
+            return vote;
+        }
+        return applyShards(List.of(vote)).get(0);
+    }
+
+    // 여러 투표 응답에 샤드 합계를 한 번의 쿼리로 더함
+    public List<VoteResponse> applyShards(List<VoteResponse> votes) {
+        if (!enabled || votes.isEmpty()) {
+            return votes;
+        }
+
+        Map<Long, Map<Long, Long>> sums = sumShards(votes.stream()
+                .map(VoteResponse::getId)
+                .collect(Collectors.toList()));
+        if (sums.isEmpty()) {
+            return votes;
+        }
+        return votes.stream()
+                .map(vote -> sums.containsKey(vote.getId()) ? withShardCounts(vote, sums.get(vote.getId())) : vote)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 측정 구간마다 투표 수가 임계값을 넘은 투표를 분산 카운터로 전환
+     */
+    @Scheduled(fixedDelayString = "${vote.sharding.window-ms:1000}",
+            scheduler = SchedulingConfig.VOTE_MAINTENANCE_SCHEDULER)
+    public void detectHotVotes() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        castsInWindow.keySet().forEach(voteId -> {
+            LongAdder adder = castsInWindow.remove(voteId);
+            if (adder != null) {
+                counts.put(voteId, adder.sum());
+            }
+        });
+
+        counts.forEach((voteId, casts) -> {
+            if (casts >= thresholdPerWindow && !shardedVotes.containsKey(voteId)) {
+                enableShards(voteId, casts);
+            }
+        });
+    }
+
+    /**
+     * 샤드 값을 vote_options/votes에 합산하고 0으로 되돌림
+     * 샤드 행을 잠근 상태에서 합산하므로 그 사이의 증가가 유실되거나 두 번 더해지지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${vote.sharding.compaction-interval-ms:5000}",
+            scheduler = SchedulingConfig.VOTE_MAINTENANCE_SCHEDULER)
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+
+        // 다른 인스턴스에서 전환되거나 비활성화된 투표도 반영 (비활성 투표도 남은 샤드 값은 합산)
+        List<Long> voteIds = new ArrayList<>();
+        for (Object[] row : voteRepository.findShardedVotes()) {
+            Long voteId = (Long) row[0];
+            if ((Boolean) row[2]) {
+                shardedVotes.putIfAbsent(voteId, (Integer) row[1]);
+            } else {
+                shardedVotes.remove(voteId);
+            }
+            voteIds.add(voteId);
+        }
+
+        for (Long voteId : voteIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> compact(voteId));
+            } catch (Exception e) {
+                log.warn("투표 {} 샤드 합산 실패, 다음 주기에 재시도합니다: {}", voteId, e.getMessage());
+            }
+        }
+    }
+
+    private void compact(Long voteId) {
+        // 즉시 증가 경로와 같은 투표 -> 옵션 락 순서를 유지 (옵션은 ID 순)
+        Map<Long, Integer> optionSums = new TreeMap<>();
+        for (VoteOptionShard shard : shardRepository.lockByVoteId(voteId)) {
+            if (shard.getVoteCount() > 0) {
+                optionSums.merge(shard.getOptionId(), shard.getVoteCount(), Integer::sum);
+            }
+        }
+        if (optionSums.isEmpty()) {
+            return;
+        }
+
+        int total = optionSums.values().stream().mapToInt(Integer::intValue).sum();
+        voteOptionRepository.incrementTotalVotes(voteId, total);
+        for (Map.Entry<Long, Integer> entry : optionSums.entrySet()) {
+            voteOptionRepository.addVoteCount(entry.getKey(), entry.getValue());
+        }
+        shardRepository.resetByVoteId(voteId);
+    }
+
+    private void enableShards(Long voteId, long casts) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (voteRepository.enableCounterShards(voteId, shards) == 0) {
+                    return; // 이미 다른 인스턴스가 전환
+                }
+                for (int shard = 0; shard < shards; shard++) {
+                    shardRepository.createShards(voteId, shard);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("투표 {} 샤드가 이미 생성되어 있습니다", voteId);
+        }
+
+        voteRepository.findShardedVotes().stream()
+                .filter(row -> voteId.equals(row[0]) && (Boolean) row[2])
+                .findFirst()
+                .ifPresent(row -> shardedVotes.put(voteId, (Integer) row[1]));
+        log.info("투표 {}에 분산 카운터 적용 ({}ms 동안 {}건)", voteId, windowMs, casts);
+    }
+
+    private Map<Long, Map<Long, Long>> sumShards(Collection<Long> voteIds) {
+        Map<Long, Map<Long, Long>> sums = new HashMap<>();
+        for (Object[] row : shardRepository.sumByVoteIds(voteIds)) {
+            sums.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .put((Long) row[1], ((Number) row[2]).longValue());
+        }
+        return sums;
+    }
+
+    private static VoteResponse withShardCounts(VoteResponse vote, Map<Long, Long> optionSums) {
+        int totalVotes = vote.getTotalVotes() + optionSums.values().stream().mapToInt(Long::intValue).sum();
+
+        VoteResponse response = new VoteResponse();
+        response.setId(vote.getId());
+        response.setQuestion(vote.getQuestion());
+        response.setDescription(vote.getDescription());
+        response.setCreatedAt(vote.getCreatedAt());
+        response.setActive(vote.isActive());
+        response.setTotalVotes(totalVotes);
+        response.setOptions(vote.getOptions().stream()
+                .map(option -> {
+                    int voteCount = option.getVoteCount() + optionSums.getOrDefault(option.getId(), 0L).intValue();
+                    return new VoteResponse.VoteOptionResponse(option.getId(), option.getOptionText(), voteCount,
+                            totalVotes > 0 ? (double) voteCount / totalVotes * 100 : 0.0);
+                })
+                .collect(Collectors.toList()));
+        return response;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.iac_sample_app.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 요청 병합 (single-flight)
+ * 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 함께 받는다.
+ * 호출이 끝나면 키가 제거되어 다음 요청은 새로 호출한다.
+ */
+public final class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 대해 진행 중인 호출을 공유하거나, 없으면 새로 시작
+     * 반환되는 future는 호출자별 복사본이므로 한 호출자의 취소/시간 초과가 다른 호출자에게 영향을 주지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> promise = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return ((CompletableFuture<T>) existing).copy();
+        }
+
+        try {
+            call.get().whenComplete((value, error) -> {
+                // 결과를 알리기 전에 제거하여, 완료 이후 요청은 새 호출을 시작하도록 함
+                inFlight.remove(key, promise);
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else {
+                    promise.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(e);
+        }
+        return promise.copy();
+    }
+
+    // 현재 진행 중인 호출 수
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.iac_sample_app.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 구독자별 비동기 전송
+ * 구독자마다 제한된 크기의 대기열을 두고 전용 스레드 풀에서 순서대로 보낸다.
+ * 발행 스레드(스케줄러)는 대기열에 넣기만 하므로, 읽지 않는 클라이언트가 있어도 다른 구독자나 주기 작업이 멈추지 않는다.
+ * 대기열이 가득 찬 구독자는 밀린 것으로 보고 구독에서 제외하며, 진행 중인 전송이 끝나면 연결을 닫는다.
+ */
+@Slf4j
+public final class SseFanout {
+
+    private final ThreadPoolExecutor executor;
+    private final int maxPendingEvents;
+    private final Map<SseEmitter, Outbox> outboxes = new ConcurrentHashMap<>();
+
+    public SseFanout(String name, int threads, int maxPendingEvents) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                // 구독자당 대기 중인 전송 작업은 최대 1개이므로 구독자 수만큼이면 충분
+                new ArrayBlockingQueue<>(10_000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.maxPendingEvents = maxPendingEvents;
+    }
+
+    /**
+     * 구독자 등록 (대기열이 가득 차거나 전송에 실패하면 onDrop을 한 번 호출)
+     */
+    public void register(SseEmitter emitter, Runnable onDrop) {
+        outboxes.putIfAbsent(emitter, new Outbox(emitter, onDrop));
+    }
+
+    /**
+     * 이벤트 전송 요청 (이벤트는 한 번만 만들어 모든 구독자에게 같은 내용을 보냄)
+     * 등록되지 않았거나 이미 제외된 구독자는 무시한다.
+     */
+    public void send(SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        Outbox outbox = outboxes.get(emitter);
+        if (outbox == null) {
+            return;
+        }
+        if (outbox.pendingCount.incrementAndGet() > maxPendingEvents) {
+            log.debug("SSE 구독자 전송이 밀려 구독을 해제합니다 (대기 {}건)", maxPendingEvents);
+            drop(outbox);
+            return;
+        }
+        outbox.pending.add(event);
+        schedule(outbox);
+    }
+
+    // 구독 해제 시 호출 (대기 중인 이벤트는 버림)
+    public void remove(SseEmitter emitter) {
+        Outbox outbox = outboxes.remove(emitter);
+        if (outbox != null) {
+            outbox.dropped.set(true);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(Outbox outbox) {
+        if (!outbox.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(outbox));
+        } catch (RejectedExecutionException e) {
+            outbox.draining.set(false);
+            drop(outbox);
+        }
+    }
+
+    private void drain(Outbox outbox) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!outbox.dropped.get() && (event = outbox.pending.poll()) != null) {
+                try {
+                    outbox.emitter.send(event);
+                    outbox.pendingCount.decrementAndGet();
+                } catch (IOException | IllegalStateException e) {
+                    drop(outbox);
+                }
+            }
+            if (outbox.dropped.get()) {
+                // 밀려서 제외된 구독자는 마지막 전송이 끝난 이 스레드에서 연결을 닫음
+                outbox.pending.clear();
+                complete(outbox.emitter);
+                return;
+            }
+            outbox.draining.set(false);
+            // 비우는 사이 새로 들어온 이벤트가 있으면 이어서 처리
+        } while (!outbox.pending.isEmpty() && outbox.draining.compareAndSet(false, true));
+    }
+
+    private void drop(Outbox outbox) {
+        if (outboxes.remove(outbox.emitter, outbox) && outbox.dropped.compareAndSet(false, true)) {
+            outbox.onDrop.run();
+        }
+        // 전송 중이 아니면 여기서 바로 닫고, 전송 중이면 drain이 끝날 때 닫음
+        if (outbox.draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> complete(outbox.emitter));
+            } catch (RejectedExecutionException ignored) {
+                // 종료 중
+            }
+        }
+    }
+
+    private static void complete(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("SSE 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private static final class Outbox {
+        private final SseEmitter emitter;
+        private final Runnable onDrop;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean dropped = new AtomicBoolean();
+
+        private Outbox(SseEmitter emitter, Runnable onDrop) {
+            this.emitter = emitter;
+            this.onDrop = onDrop;
+        }
+    }
+}
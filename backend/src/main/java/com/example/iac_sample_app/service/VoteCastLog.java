@@ -0,0 +1,474 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.config.SchedulingConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 인메모리 투표 엔진 내구성 로그 (vote.cast-log.enabled=true이고 vote.store.type=memory일 때만 동작)
+ * - 투표하기: 고정 크기 레코드(timestamp, optionId, voteId)를 메모리 맵 세그먼트 파일에 추가하고, 가득 차면 다음 세그먼트로 교체
+ * - 투표 생성: 드물게 일어나므로 votes.dat에 정의를 추가하고 바로 fsync
+ * - 스냅샷: 주기적으로 옵션별 투표수와 로그 위치를 snapshot.dat에 기록하고, 그 이전 세그먼트는 삭제
+ * 재시작 시 DB를 다시 읽지 않고 정의 + 마지막 스냅샷 + 이후 로그 레코드만 재생해 집계를 복구한다.
+ *
+ * fsync 정책 (vote.cast-log.fsync)
+ * - always: 주기적인 한 번의 force로 여러 투표를 함께 커밋하고(group commit), 투표 요청은 자기 레코드가 커밋될 때까지 대기
+ * - interval: 대기하지 않고 주기적으로 force (장애 시 최대 한 주기분 유실 가능)
+ * - none: force하지 않고 OS 페이지 캐시 반영에 맡김 (프로세스 종료에는 안전, 서버 장애 시 유실 가능)
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${vote.cast-log.enabled:false} and '${vote.store.type:memory}' == 'memory'")
+public class VoteCastLog {
+
+    // 레코드: timestamp(8) + optionId(8) + voteId(8), voteId는 마지막에 기록하여 0이면 끝(또는 기록 중단)으로 판단
+    static final int RECORD_SIZE = 24;
+
+    private static final int SNAPSHOT_MAGIC = 0x56534E50; // "VSNP"
+    private static final String SEGMENT_PREFIX = "casts-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    enum FsyncPolicy { ALWAYS, INTERVAL, NONE }
+
+    private final InMemoryVoteEngine voteEngine;
+    private final Path directory;
+    private final int segmentCapacity;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMs;
+
+    // 추가/세그먼트 교체/스냅샷 위치 캡처는 모두 this로 동기화
+    private Segment current;
+    private long nextSequence;
+    // 교체되었지만 아직 force하지 않은 세그먼트 (flusher가 락 밖에서 반영)
+    private final List<Segment> retired = new ArrayList<>();
+
+    // force로 디스크에 반영된 다음 레코드 번호 (always 정책에서 대기하는 요청을 깨울 때 사용)
+    private final Object durableMonitor = new Object();
+    private volatile long durableSequence;
+
+    private final Object definitionLock = new Object();
+    private FileChannel definitions;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public VoteCastLog(InMemoryVoteEngine voteEngine,
+                       @Value("${vote.cast-log.directory:/opt/app/data/cast-log}") String directory,
+                       @Value("${vote.cast-log.segment-size-bytes:67108864}") int segmentSizeBytes,
+                       @Value("${vote.cast-log.fsync:interval}") String fsyncPolicy,
+                       @Value("${vote.cast-log.fsync-interval-ms:10}") long fsyncIntervalMs) {
+        this.voteEngine = voteEngine;
+        this.directory = Paths.get(directory);
+        this.segmentCapacity = Math.max(segmentSizeBytes / RECORD_SIZE, 1);
+        this.fsyncPolicy = FsyncPolicy.valueOf(fsyncPolicy.toUpperCase());
+        this.fsyncIntervalMs = fsyncIntervalMs;
+        this.flusher = new Thread(this::runFlushLoop, "vote-cast-log-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(directory);
+        restore();
+        definitions = FileChannel.open(directory.resolve("votes.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        synchronized (this) {
+            current = openSegment(nextSequence);
+        }
+        durableSequence = nextSequence;
+        flusher.start();
+    }
+
+    // 종료 시 남은 레코드를 반영하고 마지막 스냅샷을 남김
+    @PreDestroy
+    void shutdown() throws InterruptedException, IOException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(5000);
+        flush();
+        snapshot();
+        definitions.close();
+    }
+
+    /**
+     * 투표 생성 기록 (정의를 추가하고 fsync한 뒤 반환)
+     */
+    public void recordCreate(VoteTally tally) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(tally.getId());
+            out.writeLong(tally.getCreatedAt().getTime());
+            out.writeUTF(tally.getQuestion());
+            out.writeBoolean(tally.getDescription() != null);
+            if (tally.getDescription() != null) {
+                out.writeUTF(tally.getDescription());
+            }
+            out.writeInt(tally.getOptionCount());
+            for (int i = 0; i < tally.getOptionCount(); i++) {
+                out.writeLong(tally.getOptionId(i));
+                out.writeUTF(tally.getOptionText(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        synchronized (definitionLock) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    definitions.write(buffer);
+                }
+                definitions.force(false);
+            } catch (IOException e) {
+                throw new RuntimeException("투표 정의를 기록하지 못했습니다: " + tally.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 투표하기 기록
+     * 레코드 추가와 메모리 반영을 같은 임계 구역에서 처리해, 스냅샷이 로그 위치와 일치하는 집계를 읽도록 한다.
+     * 호출자는 옵션이 유효한지 먼저 확인해야 한다.
+     */
+    public void recordCast(long voteId, long optionId, Runnable apply) {
+        long sequence;
+        synchronized (this) {
+            if (nextSequence - current.base >= segmentCapacity) {
+                rotate();
+            }
+            int offset = (int) (nextSequence - current.base) * RECORD_SIZE;
+            current.buffer.putLong(offset, System.currentTimeMillis());
+            current.buffer.putLong(offset + 8, optionId);
+            current.buffer.putLong(offset + 16, voteId);
+            sequence = nextSequence++;
+            apply.run();
+        }
+
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            awaitDurable(sequence);
+        }
+    }
+
+    /**
+     * 스냅샷 기록
+     * 로그 위치와 옵션별 투표수를 함께 캡처한 뒤 임시 파일에 쓰고 원자적으로 교체하며,
+     * 스냅샷 위치 이전 레코드만 담은 세그먼트는 삭제한다.
+     */
+    @Scheduled(fixedDelayString = "${vote.cast-log.snapshot-interval-ms:60000}",
+            initialDelayString = "${vote.cast-log.snapshot-interval-ms:60000}",
+            scheduler = SchedulingConfig.VOTE_MAINTENANCE_SCHEDULER)
+    public void snapshot() throws IOException {
+        long sequence;
+        List<VoteTally> tallies;
+        Map<Long, long[]> counts = new LinkedHashMap<>();
+        synchronized (this) {
+            sequence = nextSequence;
+            tallies = voteEngine.findAll();
+            for (VoteTally tally : tallies) {
+                long[] optionCounts = new long[tally.getOptionCount()];
+                for (int i = 0; i < optionCounts.length; i++) {
+                    optionCounts[i] = tally.getVoteCount(i);
+                }
+                counts.put(tally.getId(), optionCounts);
+            }
+        }
+
+        Path temp = directory.resolve("snapshot.dat.tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(sequence);
+            out.writeInt(counts.size());
+            for (Map.Entry<Long, long[]> entry : counts.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                for (long count : entry.getValue()) {
+                    out.writeLong(count);
+                }
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve("snapshot.dat"),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // 이름 교체가 디스크에 반영되기 전에 세그먼트를 지우면 장애 시 이전 스냅샷과 지워진 로그만 남을 수 있음
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        }
+
+        deleteSegmentsBefore(sequence);
+        log.debug("투표 스냅샷 기록: 투표 {}건, 로그 위치 {}", counts.size(), sequence);
+    }
+
+    // 정의 -> 스냅샷 -> 스냅샷 이후 로그 순으로 복구하여 엔진에 등록
+    private void restore() throws IOException {
+        long started = System.nanoTime();
+        List<Definition> definitionList = readDefinitions();
+
+        Map<Long, long[]> counts = new HashMap<>();
+        long snapshotSequence = readSnapshot(counts);
+
+        Map<Long, Definition> byId = new HashMap<>();
+        for (Definition definition : definitionList) {
+            long[] snapshotCounts = counts.get(definition.id);
+            if (snapshotCounts != null && snapshotCounts.length == definition.counts.length) {
+                System.arraycopy(snapshotCounts, 0, definition.counts, 0, snapshotCounts.length);
+            }
+            byId.put(definition.id, definition);
+        }
+
+        long replayed = 0;
+        nextSequence = snapshotSequence;
+        for (Path path : listSegments()) {
+            long base = segmentBase(path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int records = (int) (channel.size() / RECORD_SIZE);
+                int index = (int) Math.max(0, snapshotSequence - base);
+                for (; index < records; index++) {
+                    int offset = index * RECORD_SIZE;
+                    long voteId = buffer.getLong(offset + 16);
+                    if (voteId == 0) {
+                        break;
+                    }
+                    Definition definition = byId.get(voteId);
+                    int option = definition != null ? definition.indexOf(buffer.getLong(offset + 8)) : -1;
+                    if (option >= 0) {
+                        definition.counts[option]++;
+                        replayed++;
+                    }
+                }
+                nextSequence = Math.max(nextSequence, base + index);
+            }
+        }
+
+        for (Definition definition : definitionList) {
+            voteEngine.register(new VoteTally(definition.id, definition.question, definition.description,
+                    new Date(definition.createdAt), definition.optionIds, definition.optionTexts, definition.counts, true));
+        }
+        log.info("투표 로그 복구 완료: 투표 {}건, 재생한 투표 {}건 ({}ms)", definitionList.size(), replayed,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<Definition> readDefinitions() throws IOException {
+        Path path = directory.resolve("votes.dat");
+        List<Definition> result = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return result;
+        }
+
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            while (true) {
+                Definition definition = new Definition();
+                try {
+                    definition.id = in.readLong();
+                    definition.createdAt = in.readLong();
+                    definition.question = in.readUTF();
+                    definition.description = in.readBoolean() ? in.readUTF() : null;
+                    int optionCount = in.readInt();
+                    definition.optionIds = new long[optionCount];
+                    definition.optionTexts = new ArrayList<>(optionCount);
+                    for (int i = 0; i < optionCount; i++) {
+                        definition.optionIds[i] = in.readLong();
+                        definition.optionTexts.add(in.readUTF());
+                    }
+                    definition.counts = new long[optionCount];
+                } catch (EOFException e) {
+                    // 마지막 레코드가 기록 도중 중단된 경우 그 앞까지만 사용
+                    break;
+                }
+                result.add(definition);
+            }
+        }
+        return result;
+    }
+
+    // 스냅샷의 옵션별 투표수를 읽고 스냅샷 로그 위치를 반환 (없으면 0)
+    private long readSnapshot(Map<Long, long[]> counts) throws IOException {
+        Path path = directory.resolve("snapshot.dat");
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IllegalStateException("투표 스냅샷 파일 형식이 올바르지 않습니다: " + path);
+            }
+            long sequence = in.readLong();
+            int voteCount = in.readInt();
+            for (int v = 0; v < voteCount; v++) {
+                long voteId = in.readLong();
+                long[] optionCounts = new long[in.readInt()];
+                for (int i = 0; i < optionCounts.length; i++) {
+                    optionCounts[i] = in.readLong();
+                }
+                counts.put(voteId, optionCounts);
+            }
+            return sequence;
+        }
+    }
+
+    // 다음 레코드 번호부터 시작하는 세그먼트로 교체
+    // 이전 세그먼트 전체의 force는 락을 잡은 채 하지 않고 flusher에 넘김 (교체 중에도 다른 투표 기록이 멈추지 않음)
+    private void rotate() {
+        if (fsyncPolicy != FsyncPolicy.NONE) {
+            retired.add(current);
+        }
+        current = openSegment(nextSequence);
+    }
+
+    private Segment openSegment(long base) {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, base, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentCapacity * RECORD_SIZE);
+            return new Segment(base, buffer);
+        } catch (IOException e) {
+            throw new RuntimeException("투표 로그 세그먼트를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    // 스냅샷 위치 이전 레코드만 담은 세그먼트 삭제 (다음 세그먼트의 시작 번호가 스냅샷 위치 이하인 경우)
+    private void deleteSegmentsBefore(long sequence) throws IOException {
+        List<Path> segments = listSegments();
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (segmentBase(segments.get(i + 1)) <= sequence) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static long segmentBase(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // group commit: 한 번의 force로 그 사이에 추가된 모든 레코드를 반영
+    private void runFlushLoop() {
+        while (running) {
+            try {
+                Thread.sleep(fsyncIntervalMs);
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로 처리
+            }
+            flush();
+        }
+    }
+
+    private void flush() {
+        Segment segment;
+        List<Segment> rotated;
+        long upTo;
+        synchronized (this) {
+            segment = current;
+            upTo = nextSequence;
+            rotated = new ArrayList<>(retired);
+            retired.clear();
+        }
+        if (upTo == durableSequence) {
+            return;
+        }
+
+        // upTo 이전 레코드는 교체된 세그먼트와 현재 세그먼트에 있으므로 둘 다 반영한 뒤 durable로 표시
+        if (fsyncPolicy != FsyncPolicy.NONE) {
+            for (Segment previous : rotated) {
+                previous.buffer.force();
+            }
+            segment.buffer.force();
+        }
+        synchronized (durableMonitor) {
+            durableSequence = upTo;
+            durableMonitor.notifyAll();
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        synchronized (durableMonitor) {
+            while (durableSequence <= sequence && running) {
+                try {
+                    durableMonitor.wait(fsyncIntervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("투표 기록 대기가 중단되었습니다", e);
+                }
+            }
+        }
+    }
+
+    private static final class Segment {
+        private final long base;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long base, MappedByteBuffer buffer) {
+            this.base = base;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class Definition {
+        private long id;
+        private long createdAt;
+        private String question;
+        private String description;
+        private long[] optionIds;
+        private List<String> optionTexts;
+        private long[] counts;
+
+        private int indexOf(long optionId) {
+            for (int i = 0; i < optionIds.length; i++) {
+                if (optionIds[i] == optionId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
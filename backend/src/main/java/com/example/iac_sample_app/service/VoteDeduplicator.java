@@ -0,0 +1,117 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.repository.VoteCastRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 투표자당 1표 제한 (vote.dedup.enabled=true일 때 사용)
+ * 투표별 Bloom filter로 처음 투표하는 투표자를 조회 없이 통과시키고, 필터에 있을 수 있는 투표자만
+ * vote_casts에서 확인한다. 확인된 중복 투표자는 메모리에 기억해 이후 재시도는 조회 없이 거절한다.
+ * 필터는 인스턴스별/투표별로 개수 제한 내에서만 유지되므로, 필터가 놓친 중복(재시작, 다른 인스턴스, 필터 제거)은
+ * vote_casts 기본 키 중복으로 거절된다.
+ * 첫 투표의 vote_casts INSERT는 비동기로 모으지 않고 투표 전에 동기로 실행한다.
+ * 이 INSERT가 인스턴스 간 중복을 막는 유일한 지점이므로, 지연 기록하면 이미 반영된 표를 되돌려야 하기 때문이다.
+ * 조회 없는 기본 키 INSERT 1회라 투표 자체의 갱신보다 비용이 작다.
+ * 중복 투표는 409 Conflict로 응답한다.
+ * 투표자 토큰은 컨트롤러가 헤더/쿠키에서 읽고, 둘 다 없으면 새로 발급하므로 항상 있다.
+ * 따라서 쿠키를 저장하지 않고 헤더도 보내지 않는 클라이언트는 요청마다 새 투표자로 취급되어 중복이 걸러지지 않는다.
+ */
+@Component
+public class VoteDeduplicator {
+
+    private final VoteCastRepository voteCastRepository;
+    private final boolean enabled;
+    private final long expectedVotersPerVote;
+    private final double falsePositiveRate;
+
+    // 투표 ID -> 해당 투표에 투표한 투표자 필터
+    private final Cache<Long, BloomFilter> filters;
+    // 중복으로 확인된 (투표 ID, 투표자 키) (반복 요청을 조회 없이 거절)
+    private final Cache<String, Boolean> confirmedDuplicates;
+
+    public VoteDeduplicator(VoteCastRepository voteCastRepository,
+                            @Value("${vote.dedup.enabled:false}") boolean enabled,
+                            @Value("${vote.dedup.expected-voters-per-vote:10000}") long expectedVotersPerVote,
+                            @Value("${vote.dedup.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${vote.dedup.max-filters:1000}") long maxFilters,
+                            @Value("${vote.dedup.max-confirmed-duplicates:100000}") long maxConfirmedDuplicates) {
+        this.voteCastRepository = voteCastRepository;
+        this.enabled = enabled;
+        this.expectedVotersPerVote = expectedVotersPerVote;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filters = Caffeine.newBuilder().maximumSize(maxFilters).build();
+        this.confirmedDuplicates = Caffeine.newBuilder().maximumSize(maxConfirmedDuplicates).build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 투표자가 이 투표에 처음 투표할 때만 cast를 실행
+     * 투표 기록을 먼저 남긴 뒤 투표하며, 투표가 실패하면 기록을 지워 다시 투표할 수 있게 한다.
+     * 활성화된 경우 voterToken은 null이 아니어야 한다 (컨트롤러가 발급).
+     */
+    public <T> T castOnce(Long voteId, Long optionId, String voterToken, Supplier<T> cast) {
+        if (!enabled) {
+            return cast.get();
+        }
+        byte[] digest = sha256(voterToken);
+        String voterKey = HexFormat.of().formatHex(digest);
+        ByteBuffer hashes = ByteBuffer.wrap(digest);
+        long hash1 = hashes.getLong();
+        long hash2 = hashes.getLong();
+        String duplicateKey = voteId + ":" + voterKey;
+
+        BloomFilter filter = filters.get(voteId, id -> new BloomFilter(expectedVotersPerVote, falsePositiveRate));
+        if (filter.mightContain(hash1, hash2)) {
+            // 필터 적중: 확인된 중복이면 바로 거절, 아니면 DB에서 확인 (오탐이면 통과)
+            if (confirmedDuplicates.getIfPresent(duplicateKey) != null
+                    || voteCastRepository.existsByVoteIdAndVoterKey(voteId, voterKey)) {
+                throw duplicate(voteId, duplicateKey);
+            }
+        }
+
+        try {
+            voteCastRepository.insertCast(voteId, voterKey, optionId);
+        } catch (DataIntegrityViolationException e) {
+            filter.put(hash1, hash2);
+            throw duplicate(voteId, duplicateKey);
+        }
+        filter.put(hash1, hash2);
+
+        try {
+            return cast.get();
+        } catch (RuntimeException e) {
+            // 필터에서는 지울 수 없으나, 다음 요청은 DB 확인에서 기록이 없어 통과한다
+            voteCastRepository.deleteCast(voteId, voterKey);
+            throw e;
+        }
+    }
+
+    private ResponseStatusException duplicate(Long voteId, String duplicateKey) {
+        confirmedDuplicates.put(duplicateKey, Boolean.TRUE);
+        return new ResponseStatusException(HttpStatus.CONFLICT, "이미 참여한 투표입니다: " + voteId);
+    }
+
+    private static byte[] sha256(String voterToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(voterToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.config.SchedulingConfig;
+import com.example.iac_sample_app.dto.VoteResponse;
+import com.example.iac_sample_app.entity.VoteParticipants;
+import com.example.iac_sample_app.repository.VoteParticipantsRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 투표별 고유 투표자/고유 IP 추정 (HyperLogLog, 투표당 메모리 고정)
+ * 투표하기 경로에서 메모리 스케치만 갱신하고, 변경된 스케치는 주기적으로 vote_participants 행과 병합해 기록한다.
+ * 병합은 레지스터별 최댓값이므로 여러 인스턴스가 같은 행에 반복 병합해도 중복 집계되지 않는다.
+ * DB를 쓰지 않는 memory 저장소에서는 메모리 스케치만 유지한다.
+ */
+@Slf4j
+@Component
+public class VoteParticipantCounter {
+
+    private final VoteParticipantsRepository participantsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean persistent;
+    private final int precision;
+
+    // 투표 ID -> 스케치 (개수 제한, 변경분이 남은 채 밀려나면 DB에 기록)
+    private final LoadingCache<Long, Sketches> sketches;
+    // 마지막 기록 이후 변경된 투표
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public VoteParticipantCounter(VoteParticipantsRepository participantsRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${vote.participants.enabled:true}") boolean enabled,
+                                  @Value("${vote.store.type:memory}") String storeType,
+                                  @Value("${vote.participants.precision:11}") int precision,
+                                  @Value("${vote.participants.max-sketches:2000}") long maxSketches,
+                                  @Value("${vote.participants.refresh-interval-ms:30000}") long refreshIntervalMs) {
+        if (precision > VoteParticipants.MAX_PRECISION) {
+            // 더 큰 스케치는 vote_participants 컬럼에 저장할 수 없으므로 기동 시 거절
+            throw new IllegalArgumentException("vote.participants.precision은 " + VoteParticipants.MAX_PRECISION
+                    + " 이하여야 합니다: " + precision);
+        }
+        this.participantsRepository = participantsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.persistent = !"memory".equals(storeType);
+        this.precision = precision;
+        this.sketches = Caffeine.newBuilder()
+                .maximumSize(maxSketches)
+                // 다른 인스턴스가 기록한 참여자도 주기적으로 병합
+                .refreshAfterWrite(Duration.ofMillis(refreshIntervalMs))
+                .removalListener((Long voteId, Sketches evicted, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && evicted != null && dirty.remove(voteId)) {
+                        persist(voteId, evicted);
+                    }
+                })
+                .build(new SketchLoader());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 투표 1건의 참여자 기록 (투표자 토큰이 없으면 IP만 기록)
+     */
+    public void record(Long voteId, String voterToken, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        Sketches sketch = sketches.get(voteId);
+        boolean changed = false;
+        if (voterToken != null) {
+            changed = sketch.voters.add(hash(voterToken));
+        }
+        if (clientIp != null) {
+            changed |= sketch.ips.add(hash(clientIp));
+        }
+        // 레지스터가 바뀐 경우에만 기록 대상 (같은 참여자의 반복 투표는 DB 쓰기를 만들지 않음)
+        if (changed && persistent) {
+            dirty.add(voteId);
+        }
+    }
+
+    // 응답에 고유 참여자 추정값 추가
+    public VoteResponse annotate(VoteResponse vote) {
+        if (!enabled) {
+            return vote;
+        }
+        Sketches sketch = sketches.get(vote.getId());
+        return vote.withParticipants(sketch.voters.estimate(), sketch.ips.estimate());
+    }
+
+    // 여러 응답에 추가 (메모리에 없는 스케치는 한 번의 쿼리로 불러옴)
+    public List<VoteResponse> annotate(List<VoteResponse> votes) {
+        if (!enabled || votes.isEmpty()) {
+            return votes;
+        }
+        Map<Long, Sketches> loaded = sketches.getAll(votes.stream()
+                .map(VoteResponse::getId)
+                .collect(Collectors.toList()));
+        return votes.stream()
+                .map(vote -> {
+                    Sketches sketch = loaded.get(vote.getId());
+                    return vote.withParticipants(sketch.voters.estimate(), sketch.ips.estimate());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 변경된 스케치를 DB 행과 병합해 기록 (실패하면 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${vote.participants.flush-interval-ms:5000}",
+            scheduler = SchedulingConfig.VOTE_MAINTENANCE_SCHEDULER)
+    public void flush() {
+        for (Long voteId : dirty) {
+            if (!dirty.remove(voteId)) {
+                continue;
+            }
+            Sketches sketch = sketches.getIfPresent(voteId);
+            if (sketch != null) {
+                persist(voteId, sketch);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void persist(Long voteId, Sketches sketch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                VoteParticipants row = participantsRepository.lockById(voteId);
+                if (row == null) {
+                    participantsRepository.save(new VoteParticipants(voteId, sketch.voters.toBytes(), sketch.ips.toBytes()));
+                    return;
+                }
+                sketch.mergeFrom(row);
+                row.setVotersSketch(sketch.voters.toBytes());
+                row.setIpsSketch(sketch.ips.toBytes());
+            });
+        } catch (Exception e) {
+            // 동시에 첫 행을 만든 경우 등 (다음 주기에는 기존 행과 병합)
+            dirty.add(voteId);
+            log.warn("투표 {} 참여자 스케치 기록 실패, 다음 주기에 재시도합니다: {}", voteId, e.getMessage());
+        }
+    }
+
+    // 64비트 해시 (FNV-1a 후 MurmurHash3 finalizer로 비트 분산)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private Sketches emptySketches() {
+        return new Sketches(new HyperLogLog(precision), new HyperLogLog(precision));
+    }
+
+    private static final class Sketches {
+        private final HyperLogLog voters;
+        private final HyperLogLog ips;
+
+        private Sketches(HyperLogLog voters, HyperLogLog ips) {
+            this.voters = voters;
+            this.ips = ips;
+        }
+
+        private void mergeFrom(VoteParticipants row) {
+            voters.merge(HyperLogLog.fromBytes(row.getVotersSketch()));
+            ips.merge(HyperLogLog.fromBytes(row.getIpsSketch()));
+        }
+    }
+
+    // DB에 기록된 스케치로 시작하며, 갱신 시에는 기존 메모리 스케치에 병합해 로컬 변경분을 유지
+    private final class SketchLoader implements CacheLoader<Long, Sketches> {
+
+        @Override
+        public Sketches load(Long voteId) {
+            return loadAll(Set.of(voteId)).get(voteId);
+        }
+
+        @Override
+        public Map<Long, Sketches> loadAll(Set<? extends Long> voteIds) {
+            Map<Long, Sketches> loaded = new HashMap<>();
+            if (persistent) {
+                for (VoteParticipants row : participantsRepository.findAllById(new ArrayList<>(voteIds))) {
+                    Sketches sketch = emptySketches();
+                    sketch.mergeFrom(row);
+                    loaded.put(row.getVoteId(), sketch);
+                }
+            }
+            voteIds.forEach(voteId -> loaded.computeIfAbsent(voteId, id -> emptySketches()));
+            return loaded;
+        }
+
+        @Override
+        public Sketches reload(Long voteId, Sketches current) {
+            if (persistent) {
+                participantsRepository.findById(voteId).ifPresent(current::mergeFrom);
+            }
+            return current;
+        }
+    }
+}
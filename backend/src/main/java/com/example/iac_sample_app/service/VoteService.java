@@ -1,99 +1,324 @@
 package com.example.iac_sample_app.service;
 
+import com.example.iac_sample_app.config.CacheConfig;
 import com.example.iac_sample_app.dto.CreateVoteRequest;
+import com.example.iac_sample_app.dto.VoteExportRowDto;
+import com.example.iac_sample_app.dto.VoteOptionCountDto;
+import com.example.iac_sample_app.dto.VotePageResponse;
 import com.example.iac_sample_app.dto.VoteResponse;
+import com.example.iac_sample_app.dto.VoteSummaryDto;
 import com.example.iac_sample_app.entity.Vote;
 import com.example.iac_sample_app.entity.VoteOption;
 import com.example.iac_sample_app.repository.VoteOptionRepository;
 import com.example.iac_sample_app.repository.VoteRepository;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class VoteService {
 
+
     private final VoteRepository voteRepository;
     private final VoteOptionRepository voteOptionRepository;
+    private final VoteWriteBehindBuffer voteWriteBehindBuffer;
+    private final ShardedVoteCounter shardedVoteCounter;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // 가져오기 시 한 트랜잭션에서 저장할 투표 수 (JDBC 배치 크기의 배수로 설정)
+    @Value("${vote.import.chunk-size:500}")
+    private int importChunkSize;
 
-    // 모든 활성 투표 조회 dd
+    // 활성 투표 페이지 조회 (createdAt, id 키셋 커서, 첫 페이지는 커서 없이 요청)
     @Transactional(readOnly = true)
-    public List<VoteResponse> getAllActiveVotes() {
-        List<Vote> votes = voteRepository.findByActiveTrueOrderByCreatedAtDesc();
-        return votes.stream()
-                .map(VoteResponse::from)
+    public VotePageResponse getActiveVotes(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = VotePageResponse.clampSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<VoteSummaryDto> summaries = (cursorCreatedAt == null || cursorId == null)
+                ? voteRepository.findActiveSummaries(limit)
+                : voteRepository.findActiveSummariesBefore(cursorCreatedAt, cursorId, limit);
+
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries = summaries.subList(0, pageSize);
+        }
+        if (summaries.isEmpty()) {
+            return new VotePageResponse(List.of(), null, null, false);
+        }
+
+        // 페이지에 포함된 투표들의 옵션을 한 번의 쿼리로 조회
+        List<Long> voteIds = summaries.stream()
+                .map(VoteSummaryDto::getId)
                 .collect(Collectors.toList());
+        Map<Long, List<VoteOptionCountDto>> optionsByVoteId = voteOptionRepository.findOptionCountsByVoteIds(voteIds)
+                .stream()
+                .collect(Collectors.groupingBy(VoteOptionCountDto::getVoteId));
+
+        List<VoteResponse> votes = shardedVoteCounter.applyShards(summaries.stream()
+                .map(summary -> VoteResponse.of(summary,
+                        optionsByVoteId.getOrDefault(summary.getId(), List.of())))
+                .collect(Collectors.toList()));
+
+        VoteSummaryDto last = summaries.get(summaries.size() - 1);
+        return new VotePageResponse(votes, last.getCreatedAt(), last.getId(), hasNext);
     }
 
-    // 특정 투표 조회
+    // 특정 투표 조회 (캐시 미스일 때만 DB 조회)
+    // sync: 미스 시 키별로 한 번만 조회하고, 조회 중에 들어온 제거(write-behind 반영 후)를 조회가 끝난 뒤 적용해
+    // 반영 전에 읽은 값이 제거 이후에 다시 저장되지 않도록 함
+    @Cacheable(cacheNames = CacheConfig.VOTE_DETAILS_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public VoteResponse getVoteById(Long id) {
         Vote vote = voteRepository.findByIdWithOptions(id);
         if (vote == null) {
             throw new RuntimeException("투표를 찾을 수 없습니다: " + id);
         }
-        return VoteResponse.from(vote);
+        return shardedVoteCounter.applyShards(VoteResponse.from(vote), vote.getCounterShards());
     }
 
     // 새 투표 생성
+    @CachePut(cacheNames = CacheConfig.VOTE_DETAILS_CACHE, key = "#result.id")
     @Transactional
     public VoteResponse createVote(CreateVoteRequest request) {
-        // 투표 엔티티 생성
-        Vote vote = new Vote();
-        vote.setQuestion(request.getQuestion());
-        vote.setDescription(request.getDescription());
-        vote.setActive(true);
+        Vote vote = voteRepository.save(newVote(request));
+        // 투표와 옵션 INSERT를 각각 하나의 배치로 전송 (생성 시간 등 INSERT 시점 값도 채워짐)
+        voteRepository.flush();
+        return VoteResponse.from(vote);
+    }
 
-        Vote savedVote = voteRepository.save(vote);
+    /**
+     * 여러 투표를 한 트랜잭션에서 생성
+     * 시퀀스 ID가 미리 할당되므로 투표 수와 관계없이 votes/vote_options 배치 INSERT 몇 번으로 끝난다.
+     */
+    @Transactional
+    public List<VoteResponse> createVotes(List<CreateVoteRequest> requests) {
+        List<Vote> votes = voteRepository.saveAll(requests.stream()
+                .map(this::newVote)
+                .collect(Collectors.toList()));
+        voteRepository.flush();
 
-        // 투표 옵션 생성
-        List<VoteOption> options = request.getOptions().stream()
-                .map(optionText -> {
-                    VoteOption option = new VoteOption();
-                    option.setOptionText(optionText);
-                    option.setVoteCount(0);
-                    option.setVote(savedVote);
-                    return option;
+        CaffeineCache cache = voteDetailsCache();
+        return votes.stream()
+                .map(vote -> {
+                    VoteResponse response = VoteResponse.from(vote);
+                    cache.put(vote.getId(), response);
+                    return response;
                 })
                 .collect(Collectors.toList());
+    }
+
+    /**
+     * NDJSON 투표 가져오기 (한 줄에 CreateVoteRequest 하나)
+     * 입력을 한 건씩 파싱하면서 청크 단위 트랜잭션으로 배치 INSERT하므로 전체 요청 본문을 메모리에 올리지 않는다.
+     * 유효하지 않은 줄을 만나면 중단하며, 그 전까지 저장된 청크는 유지된다.
+     * onSaved는 청크가 커밋될 때마다 저장된 투표마다 호출된다 (메모리 저장소 반영용).
+     */
+    public long importVotes(InputStream input, Consumer<VoteResponse> onSaved) throws IOException {
+        long imported = 0;
+        long line = 0;
+        List<Vote> chunk = new ArrayList<>(importChunkSize);
+
+        try (MappingIterator<CreateVoteRequest> requests =
+                     objectMapper.readerFor(CreateVoteRequest.class).readValues(input)) {
+            while (requests.hasNextValue()) {
+                CreateVoteRequest request = requests.nextValue();
+                line++;
 
-        voteOptionRepository.saveAll(options);
-        savedVote.setOptions(options);
+                Set<ConstraintViolation<CreateVoteRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    throw new RuntimeException(line + "번째 투표가 유효하지 않습니다 (" + imported + "건 저장됨): "
+                            + violations.iterator().next().getMessage());
+                }
+
+                chunk.add(newVote(request));
+                if (chunk.size() >= importChunkSize) {
+                    imported += saveChunk(chunk, onSaved);
+                    chunk = new ArrayList<>(importChunkSize);
+                }
+            }
+        }
 
-        return VoteResponse.from(savedVote);
+        if (!chunk.isEmpty()) {
+            imported += saveChunk(chunk, onSaved);
+        }
+        return imported;
     }
 
-    // 투표하기
-    @Transactional
-    public VoteResponse castVote(Long voteId, Long optionId) {
-        Vote vote = voteRepository.findByIdWithOptions(voteId);
-        if (vote == null || !vote.getActive()) {
-            throw new RuntimeException("유효하지 않은 투표입니다: " + voteId);
+    /**
+     * NDJSON 투표 내보내기 (한 줄에 VoteResponse 하나, 투표 ID 순)
+     * 투표 x 옵션 행을 스트리밍으로 읽어 투표 단위로 묶어 바로 쓰므로 메모리에는 투표 하나만 유지된다.
+     */
+    @Transactional(readOnly = true)
+    public void exportVotes(OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(VoteResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null)) {
+            readVotes(vote -> writeLine(writer, generator, vote));
         }
+    }
 
-        VoteOption selectedOption = vote.getOptions().stream()
-                .filter(option -> option.getId().equals(optionId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("유효하지 않은 투표 옵션입니다: " + optionId));
+    /**
+     * 전체 투표를 ID 순으로 하나씩 전달 (내보내기와 같은 스트리밍 조회, 엔티티를 영속성 컨텍스트에 올리지 않음)
+     * 스트리밍 중에는 같은 연결로 다른 쿼리를 실행할 수 없으므로 action에서 DB를 조회하면 안 된다.
+     */
+    @Transactional(readOnly = true)
+    public void forEachVote(Consumer<VoteResponse> action) {
+        try {
+            readVotes(action::accept);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        selectedOption.incrementVoteCount();
-        voteOptionRepository.save(selectedOption);
+    // 투표 x 옵션 행을 투표 단위로 묶어 전달 (호출자는 트랜잭션 안에서 사용)
+    private void readVotes(VoteReader action) throws IOException {
+        try (Stream<VoteExportRowDto> rows = voteRepository.streamExportRows()) {
+            Iterator<VoteExportRowDto> iterator = rows.iterator();
+            VoteExportRowDto current = null;
+            List<VoteOptionCountDto> options = new ArrayList<>();
 
-        return VoteResponse.from(vote);
+            while (iterator.hasNext()) {
+                VoteExportRowDto row = iterator.next();
+                if (current != null && !current.getVoteId().equals(row.getVoteId())) {
+                    action.accept(VoteResponse.of(current.toSummary(), options));
+                    options = new ArrayList<>();
+                }
+                current = row;
+                VoteOptionCountDto option = row.toOption();
+                if (option != null) {
+                    options.add(option);
+                }
+            }
+            if (current != null) {
+                action.accept(VoteResponse.of(current.toSummary(), options));
+            }
+        }
+    }
+
+    // 투표하기 (Vote 엔티티를 로딩하지 않고 DB에서 원자적으로 증가)
+    // 증가 쿼리는 자체 트랜잭션으로 즉시 커밋되어 행 락을 응답 조회 동안 잡고 있지 않음
+    // 캐시 항목은 수정하지 않고 제거만 하여, 다음 조회가 DB(다른 인스턴스의 투표 포함)에서 다시 읽도록 함
+    public VoteResponse castVote(Long voteId, Long optionId) {
+        if (voteWriteBehindBuffer.isEnabled()) {
+            // 검증과 응답은 캐시된 상세 조회로 처리 (미스일 때만 DB 조회, 투표마다 DB를 읽지 않음)
+            // 캐시는 버퍼가 DB에 반영한 뒤에만 제거되므로 투표하기에서는 제거하지 않음
+            VoteResponse current = cachedVote(voteId);
+            if (!current.isActive() || current.getOptions().stream().noneMatch(o -> o.getId().equals(optionId))) {
+                throw new RuntimeException("유효하지 않은 투표 또는 옵션입니다: " + voteId + "/" + optionId);
+            }
+            voteWriteBehindBuffer.enqueue(voteId, optionId);
+
+            // 캐시 값은 DB 반영 전 상태이므로 버퍼에 남은 투표(이번 투표 포함)를 응답에만 더함
+            return current.withPendingCasts(voteWriteBehindBuffer::pendingCount);
+        }
+
+        // 투표가 몰린 투표는 분산 카운터의 샤드 행에 반영
+        int updated = shardedVoteCounter.increment(voteId, optionId);
+        if (updated == 0) {
+            throw new RuntimeException("유효하지 않은 투표 또는 옵션입니다: " + voteId + "/" + optionId);
+        }
+        voteDetailsCache().evict(voteId);
+
+        // 커밋된 최신 상태를 응답 (내부 호출이라 캐시를 거치지 않고 DB에서 읽음)
+        return getVoteById(voteId);
     }
 
     // 투표 비활성화
+    @CachePut(cacheNames = CacheConfig.VOTE_DETAILS_CACHE, key = "#voteId")
     @Transactional
-    public void deactivateVote(Long voteId) {
-        Vote vote = voteRepository.findById(voteId)
-                .orElseThrow(() -> new RuntimeException("투표를 찾을 수 없습니다: " + voteId));
+    public VoteResponse deactivateVote(Long voteId) {
+        Vote vote = voteRepository.findByIdWithOptions(voteId);
+        if (vote == null) {
+            throw new RuntimeException("투표를 찾을 수 없습니다: " + voteId);
+        }
 
         vote.setActive(false);
         voteRepository.save(vote);
+        shardedVoteCounter.deactivated(voteId);
+        return VoteResponse.from(vote);
+    }
+
+    // 청크 하나를 별도 트랜잭션으로 저장 (커밋 후 영속성 컨텍스트가 비워져 메모리가 누적되지 않음)
+    private int saveChunk(List<Vote> chunk, Consumer<VoteResponse> onSaved) {
+        transactionTemplate.executeWithoutResult(status -> voteRepository.saveAll(chunk));
+        chunk.forEach(vote -> onSaved.accept(VoteResponse.from(vote)));
+        return chunk.size();
+    }
+
+    // 값 사이 기본 구분자(공백) 대신 줄바꿈으로 한 줄에 하나씩 기록
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, VoteResponse vote) throws IOException {
+        writer.writeValue(generator, vote);
+        generator.writeRaw('\n');
+    }
+
+    // 투표 엔티티 생성 (옵션은 Vote의 cascade로 함께 저장)
+    private Vote newVote(CreateVoteRequest request) {
+        Vote vote = new Vote();
+        vote.setQuestion(request.getQuestion());
+        vote.setDescription(request.getDescription());
+        vote.setActive(true);
+        vote.setOptions(request.getOptions().stream()
+                .map(optionText -> {
+                    VoteOption option = new VoteOption();
+                    option.setOptionText(optionText);
+                    option.setVoteCount(0);
+                    option.setVote(vote);
+                    return option;
+                })
+                .collect(Collectors.toList()));
+        return vote;
+    }
+
+    // 캐시된 상세 조회 (미스면 DB에서 읽어 저장, getVoteById의 sync 캐시와 같은 방식으로 키별 한 번만 조회)
+    private VoteResponse cachedVote(Long voteId) {
+        return (VoteResponse) voteDetailsCache().getNativeCache().get(voteId, id -> getVoteById(voteId));
+    }
+
+    private CaffeineCache voteDetailsCache() {
+        return (CaffeineCache) cacheManager.getCache(CacheConfig.VOTE_DETAILS_CACHE);
+    }
+
+    @FunctionalInterface
+    private interface VoteReader {
+        void accept(VoteResponse vote) throws IOException;
     }
 }
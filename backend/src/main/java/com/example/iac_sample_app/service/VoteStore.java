@@ -0,0 +1,41 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.CreateVoteRequest;
+import com.example.iac_sample_app.dto.VotePageResponse;
+import com.example.iac_sample_app.dto.VoteResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 투표 저장소
+ * vote.store.type으로 배포마다 지연 시간/내구성 트레이드오프를 선택한다.
+ * - memory: 인메모리 집계만 사용 (재시작 시 유실, 가장 빠름)
+ * - jpa: 모든 요청을 DB(VoteService)로 처리
+ * - hybrid: 조회/투표는 메모리에서 처리하고 DB에 영속화
+ */
+public interface VoteStore {
+
+    // 활성 투표 페이지 조회 (최신순, createdAt/id 키셋 커서, 첫 페이지는 커서 없이 요청)
+    VotePageResponse findPage(LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
+    // 특정 투표 조회 (없으면 RuntimeException)
+    VoteResponse findById(Long id);
+
+    VoteResponse create(CreateVoteRequest request);
+
+    // 여러 투표 일괄 생성
+    List<VoteResponse> createAll(List<CreateVoteRequest> requests);
+
+    // 투표하기 (반영 후 집계 반환)
+    VoteResponse cast(Long voteId, Long optionId);
+
+    // NDJSON 투표 가져오기 (저장된 투표 수 반환, DB를 쓰지 않는 저장소는 지원하지 않음)
+    long importVotes(InputStream input) throws IOException;
+
+    // NDJSON 투표 내보내기 (DB를 쓰지 않는 저장소는 지원하지 않음)
+    void exportVotes(OutputStream output) throws IOException;
+}
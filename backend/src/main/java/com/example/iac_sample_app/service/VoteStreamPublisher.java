@@ -0,0 +1,195 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.config.SchedulingConfig;
+import com.example.iac_sample_app.dto.VoteResponse;
+import com.example.iac_sample_app.dto.VoteTallyDelta;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 투표 결과 실시간 스트림(SSE) 발행기
+ * 투표마다 하나의 채널을 두고, 투표하기에서는 변경 표시만 한 뒤
+ * 주기적으로 변경된 채널의 집계를 한 번만 직렬화하여 모든 구독자에게 전송한다.
+ * SseEmitter는 서블릿 비동기 요청이므로 대기 중인 구독자는 스레드를 점유하지 않는다.
+ * 전송은 SseFanout의 전송 스레드에서 처리하여, 읽지 않는 구독자가 스케줄러 스레드를 막지 않는다.
+ */
+@Slf4j
+@Service
+public class VoteStreamPublisher {
+
+    private final VoteStore voteStore;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+
+    private final SseFanout fanout;
+
+    private final Map<Long, VoteChannel> channels = new ConcurrentHashMap<>();
+
+    public VoteStreamPublisher(VoteStore voteStore,
+                               VoteWriteBehindBuffer voteWriteBehindBuffer,
+                               ObjectMapper objectMapper,
+                               @Value("${vote.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+                               @Value("${vote.stream.send-threads:4}") int sendThreads,
+                               @Value("${vote.stream.max-pending-events:32}") int maxPendingEvents) {
+        this.voteStore = voteStore;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.fanout = new SseFanout("vote-stream-send", sendThreads, maxPendingEvents);
+        // write-behind 사용 시 투표하기 시점의 조회에는 아직 반영 전 집계가 보이므로, DB 반영 후 다시 변경 표시
+        voteWriteBehindBuffer.addFlushListener(voteIds -> voteIds.forEach(this::onVoteCast));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanout.shutdown();
+    }
+
+    // 구독 등록 후 현재 집계를 첫 이벤트로 전송
+    public SseEmitter subscribe(Long voteId) {
+        VoteResponse vote = voteStore.findById(voteId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        fanout.register(emitter, () -> {
+            log.debug("투표 스트림 구독자 연결 종료: {}", voteId);
+            unsubscribe(voteId, emitter);
+        });
+        // 마지막 구독자 해제로 채널이 제거되는 것과 경합하지 않도록 compute 안에서 등록
+        VoteChannel channel = channels.compute(voteId, (id, existing) -> {
+            VoteChannel target = existing != null ? existing : new VoteChannel(vote);
+            target.emitters.add(emitter);
+            return target;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(voteId, emitter));
+        emitter.onTimeout(() -> unsubscribe(voteId, emitter));
+        emitter.onError(e -> unsubscribe(voteId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("snapshot")
+                    .data(toJson(channel.snapshot(vote)), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            unsubscribe(voteId, emitter);
+        }
+        return emitter;
+    }
+
+    // 투표하기 경로에서 호출 (구독자가 있을 때만 변경 표시)
+    public void onVoteCast(long voteId) {
+        VoteChannel channel = channels.get(voteId);
+        if (channel != null) {
+            channel.dirty.set(true);
+        }
+    }
+
+    // 변경된 투표의 집계 변화량을 주기적으로 전송 (vote.stream.publish-interval-ms마다 최대 1회)
+    // 저장소 조회가 DB를 거칠 수 있으므로 투표 작업 스케줄러에서 실행
+    @Scheduled(fixedDelayString = "${vote.stream.publish-interval-ms:500}",
+            scheduler = SchedulingConfig.VOTE_MAINTENANCE_SCHEDULER)
+    public void publishDeltas() {
+        channels.forEach((voteId, channel) -> {
+            if (!channel.dirty.getAndSet(false)) {
+                return;
+            }
+
+            VoteTallyDelta delta = channel.delta(voteStore.findById(voteId));
+            if (delta.getOptions().isEmpty()) {
+                return;
+            }
+            broadcast(voteId, channel, SseEmitter.event()
+                    .name("delta")
+                    .data(toJson(delta), MediaType.APPLICATION_JSON));
+        });
+    }
+
+    // 끊어진 연결 정리를 위한 주기적 heartbeat
+    @Scheduled(fixedDelayString = "${vote.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        channels.forEach((voteId, channel) ->
+                broadcast(voteId, channel, SseEmitter.event().comment("heartbeat")));
+    }
+
+    // 이벤트는 한 번만 만들고, 실제 전송은 구독자별 대기열을 통해 전송 스레드에서 처리
+    private void broadcast(Long voteId, VoteChannel channel, SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> data = event.build();
+        for (SseEmitter emitter : channel.emitters) {
+            fanout.send(emitter, data);
+        }
+    }
+
+    private void unsubscribe(Long voteId, SseEmitter emitter) {
+        fanout.remove(emitter);
+        channels.computeIfPresent(voteId, (id, channel) -> {
+            channel.emitters.remove(emitter);
+            return channel.emitters.isEmpty() ? null : channel;
+        });
+    }
+
+    private String toJson(VoteTallyDelta delta) {
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("투표 스트림 이벤트 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 투표별 구독 채널
+     * 마지막으로 전송한 옵션별 투표수를 기억해 변화량만 계산한다.
+     */
+    private static final class VoteChannel {
+
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final Map<Long, Long> lastCounts = new HashMap<>();
+
+        private VoteChannel(VoteResponse vote) {
+            for (VoteResponse.VoteOptionResponse option : vote.getOptions()) {
+                lastCounts.put(option.getId(), (long) option.getVoteCount());
+            }
+        }
+
+        // 전체 옵션 집계 (신규 구독자용)
+        private synchronized VoteTallyDelta snapshot(VoteResponse vote) {
+            return build(vote, true);
+        }
+
+        // 직전 전송 이후 바뀐 옵션만
+        private synchronized VoteTallyDelta delta(VoteResponse vote) {
+            return build(vote, false);
+        }
+
+        private VoteTallyDelta build(VoteResponse vote, boolean includeUnchanged) {
+            List<VoteTallyDelta.OptionDelta> options = new ArrayList<>();
+            for (VoteResponse.VoteOptionResponse option : vote.getOptions()) {
+                long count = option.getVoteCount();
+                long delta = includeUnchanged ? 0 : count - lastCounts.getOrDefault(option.getId(), 0L);
+                if (includeUnchanged || delta != 0) {
+                    options.add(new VoteTallyDelta.OptionDelta(option.getId(), count, delta, option.getPercentage()));
+                }
+                if (!includeUnchanged) {
+                    lastCounts.put(option.getId(), count);
+                }
+            }
+            return new VoteTallyDelta(vote.getId(), vote.getTotalVotes(), options);
+        }
+    }
+}
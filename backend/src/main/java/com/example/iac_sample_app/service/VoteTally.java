@@ -0,0 +1,114 @@
+package com.example.iac_sample_app.service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인메모리 투표 집계 단위
+ * 옵션별 카운터는 LongAdder로 분산시켜 동시 투표 시에도 락 없이 증가시킨다.
+ */
+public final class VoteTally {
+
+    private final long id;
+    private final String question;
+    private final String description;
+    private final Date createdAt;
+    private final long[] optionIds;
+    private final String[] optionTexts;
+    private final LongAdder[] optionCounters;
+    private final boolean active;
+
+    VoteTally(long id, String question, String description, List<String> optionTexts) {
+        this(id, question, description, new Date(), sequentialIds(optionTexts.size()), optionTexts,
+                new long[optionTexts.size()], true);
+    }
+
+    /**
+     * 기존 집계로 생성 (DB에 저장된 투표를 불러올 때 사용)
+     * 옵션 ID는 DB의 옵션 ID를 그대로 사용하고, 활성 여부도 DB 값을 따른다.
+     */
+    VoteTally(long id, String question, String description, Date createdAt,
+              long[] optionIds, List<String> optionTexts, long[] voteCounts, boolean active) {
+        this.id = id;
+        this.question = question;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.active = active;
+        this.optionIds = optionIds.clone();
+        this.optionTexts = optionTexts.toArray(new String[0]);
+        this.optionCounters = new LongAdder[this.optionTexts.length];
+        for (int i = 0; i < optionCounters.length; i++) {
+            optionCounters[i] = new LongAdder();
+            optionCounters[i].add(voteCounts[i]);
+        }
+    }
+
+    /**
+     * 옵션 투표수 증가
+     * 유효하지 않은 옵션이면 false 반환
+     */
+    boolean increment(long optionId) {
+        int index = indexOf(optionId);
+        if (index < 0) {
+            return false;
+        }
+        optionCounters[index].increment();
+        return true;
+    }
+
+    // 옵션 ID의 인덱스 (옵션은 최대 10개이므로 선형 탐색, 없으면 -1)
+    int indexOf(long optionId) {
+        for (int i = 0; i < optionIds.length; i++) {
+            if (optionIds[i] == optionId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 새로 만든 투표의 옵션 ID는 1부터 순서대로 부여
+    private static long[] sequentialIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1;
+        }
+        return ids;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getQuestion() {
+        return question;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getOptionCount() {
+        return optionTexts.length;
+    }
+
+    public long getOptionId(int index) {
+        return optionIds[index];
+    }
+
+    public String getOptionText(int index) {
+        return optionTexts[index];
+    }
+
+    public long getVoteCount(int index) {
+        return optionCounters[index].sum();
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.config.CacheConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 투표수 증가 write-behind 버퍼
+ * 투표 요청은 제한된 크기의 큐에 쌓고, 별도 스레드가 N ms 또는 M건마다
+ * 옵션별/투표별로 합산하여 한 트랜잭션의 배치 UPDATE로 DB에 반영한다.
+ */
+@Slf4j
+@Component
+public class VoteWriteBehindBuffer {
+
+    private static final String INCREMENT_OPTION_SQL =
+            "UPDATE vote_options SET vote_count = vote_count + ? WHERE id = ?";
+
+    private static final String INCREMENT_TOTAL_SQL =
+            "UPDATE votes SET total_votes = total_votes + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final BlockingQueue<PendingCast> queue;
+    private final long flushIntervalMs;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+
+    // DB에 아직 반영되지 않은 옵션별 투표 수 (큐 + 반영 중 + 재시도 대기, 투표 응답 계산용)
+    // 반영 커밋과 캐시 제거 후에 줄이므로, 캐시 값에 더해도 같은 투표가 빠지지 않는다.
+    private final Map<Long, Integer> pendingByOption = new ConcurrentHashMap<>();
+
+    // DB 반영에 실패한 증가분 (다음 주기에 다시 시도, flusher 스레드에서만 접근)
+    private final Map<Long, Integer> failedOptionIncrements = new TreeMap<>();
+    private final Map<Long, Integer> failedTotalIncrements = new TreeMap<>();
+
+    // DB 반영 후 호출할 리스너 (반영된 투표 ID 전달)
+    private final List<Consumer<Collection<Long>>> flushListeners = new CopyOnWriteArrayList<>();
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+    public VoteWriteBehindBuffer(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 CacheManager cacheManager,
+                                 @Value("${vote.write-behind.enabled:true}") boolean enabled,
+                                 @Value("${vote.write-behind.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${vote.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+                                 @Value("${vote.write-behind.batch-size:500}") int batchSize,
+                                 @Value("${vote.write-behind.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushIntervalMs = flushIntervalMs;
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.flusher = new Thread(this::runFlushLoop, "vote-write-behind");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            flusher.start();
+        }
+    }
+
+    // 비활성화 시 투표는 VoteOptionRepository의 원자적 증가 쿼리로 즉시 반영
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 투표수 증가 요청 적재
+     * 큐가 가득 차면 offer-timeout 동안 대기하고, 그래도 공간이 없으면 503으로 호출자에게 역압을 전달한다.
+     */
+    public void enqueue(Long voteId, Long optionId) {
+        if (!enabled) {
+            throw new IllegalStateException("write-behind 버퍼가 비활성화되어 있습니다");
+        }
+
+        // 종료 확인과 적재를 읽기 락 안에서 처리해, 종료 이후에 적재되어 유실되는 투표가 없도록 함
+        shutdownLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "투표 처리기가 종료 중입니다");
+            }
+            // flusher가 꺼내 반영하기 전에 세어야 반영 후 감소가 먼저 일어나지 않음
+            addPending(optionId, 1);
+            boolean queued = false;
+            try {
+                queued = queue.offer(new PendingCast(voteId, optionId), offerTimeoutMs, TimeUnit.MILLISECONDS);
+            } finally {
+                if (!queued) {
+                    addPending(optionId, -1);
+                }
+            }
+            if (!queued) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "투표 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("투표 요청 처리가 중단되었습니다", e);
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+    }
+
+    // DB 반영(커밋 + 캐시 제거) 후 알림 등록 (flusher 스레드에서 호출되므로 바로 반환해야 함)
+    public void addFlushListener(Consumer<Collection<Long>> listener) {
+        flushListeners.add(listener);
+    }
+
+    // 옵션의 투표 중 아직 DB에 반영되지 않은 수
+    public int pendingCount(Long optionId) {
+        return pendingByOption.getOrDefault(optionId, 0);
+    }
+
+    // 종료 시 큐에 남은 투표를 모두 반영한 뒤 종료
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 진행 중인 적재가 끝난 뒤 종료 표시 (이후 enqueue는 거절됨)
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        if (!enabled) {
+            return;
+        }
+
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        if (flusher.isAlive()) {
+            // flusher가 아직 반영 중이므로 실패분/큐를 여기서 건드리지 않음
+            log.error("write-behind 반영이 제한 시간 내에 끝나지 않았습니다 (큐에 남은 투표 {}건)", queue.size());
+            return;
+        }
+
+        // flusher 종료 후 남은 요청과 실패분을 종료 스레드에서 마지막으로 반영
+        List<PendingCast> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty() || !failedOptionIncrements.isEmpty()) {
+            flush(remaining);
+        }
+        if (!failedOptionIncrements.isEmpty()) {
+            log.error("DB에 반영하지 못한 투표가 있습니다: {}", failedOptionIncrements);
+        }
+    }
+
+    private void runFlushLoop() {
+        List<PendingCast> drained = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(drained);
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로 처리하므로 인터럽트는 무시하고 남은 요청을 반영
+                log.warn("write-behind 스레드 인터럽트 발생");
+            }
+
+            if (!drained.isEmpty() || !failedOptionIncrements.isEmpty()) {
+                flush(drained);
+                drained.clear();
+            }
+        }
+    }
+
+    // flush 주기가 끝나거나 배치 크기만큼 모일 때까지 큐에서 꺼냄
+    private void collectBatch(List<PendingCast> drained) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        while (drained.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            PendingCast cast = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (cast == null) {
+                return;
+            }
+            drained.add(cast);
+            queue.drainTo(drained, batchSize - drained.size());
+        }
+    }
+
+    private void flush(List<PendingCast> drained) {
+        // ID 순으로 정렬해 여러 인스턴스가 동시에 반영해도 같은 순서로 락을 잡도록 함
+        Map<Long, Integer> optionIncrements = new TreeMap<>(failedOptionIncrements);
+        Map<Long, Integer> totalIncrements = new TreeMap<>(failedTotalIncrements);
+        failedOptionIncrements.clear();
+        failedTotalIncrements.clear();
+        for (PendingCast cast : drained) {
+            optionIncrements.merge(cast.optionId, 1, Integer::sum);
+            totalIncrements.merge(cast.voteId, 1, Integer::sum);
+        }
+
+        try {
+            // 투표 -> 옵션 순서로 갱신 (VoteOptionRepository.incrementVoteCounts와 같은 락 순서)
+            transactionTemplate.executeWithoutResult(status -> {
+                batchIncrement(INCREMENT_TOTAL_SQL, totalIncrements);
+                batchIncrement(INCREMENT_OPTION_SQL, optionIncrements);
+            });
+            log.debug("투표 {}건을 옵션 {}개로 합산하여 반영", drained.size(), optionIncrements.size());
+            // 반영 전 상태로 캐시된 상세 조회가 TTL 동안 남지 않도록 제거
+            Cache cache = cacheManager.getCache(CacheConfig.VOTE_DETAILS_CACHE);
+            if (cache != null) {
+                totalIncrements.keySet().forEach(cache::evict);
+            }
+            optionIncrements.forEach((optionId, count) -> addPending(optionId, -count));
+            notifyFlushed(totalIncrements.keySet());
+        } catch (Exception e) {
+            log.error("투표수 일괄 반영 실패, 다음 주기에 재시도합니다", e);
+            failedOptionIncrements.putAll(optionIncrements);
+            failedTotalIncrements.putAll(totalIncrements);
+        }
+    }
+
+    // 리스너 오류가 반영 실패로 처리되어 재시도(이중 반영)되지 않도록 여기서 처리
+    private void notifyFlushed(Collection<Long> voteIds) {
+        for (Consumer<Collection<Long>> listener : flushListeners) {
+            try {
+                listener.accept(voteIds);
+            } catch (RuntimeException e) {
+                log.warn("write-behind 반영 알림 처리 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 0이 되면 항목을 제거 (키별로 원자적으로 갱신)
+    private void addPending(Long optionId, int delta) {
+        pendingByOption.merge(optionId, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    private void batchIncrement(String sql, Map<Long, Integer> increments) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(increments.entrySet());
+        jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    private static final class PendingCast {
+        private final long voteId;
+        private final long optionId;
+
+        private PendingCast(long voteId, long optionId) {
+            this.voteId = voteId;
+            this.optionId = optionId;
+        }
+    }
+}
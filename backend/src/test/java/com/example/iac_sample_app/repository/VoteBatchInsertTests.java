@@ -0,0 +1,96 @@
+package com.example.iac_sample_app.repository;
+
+import com.example.iac_sample_app.entity.Vote;
+import com.example.iac_sample_app.entity.VoteOption;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class VoteBatchInsertTests {
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void optionInsertsAreBatchedRegardlessOfOptionCount() {
+        // 시퀀스 풀을 미리 할당받아 두 측정 모두 INSERT 문만 세도록 함 (풀링 옵티마이저는 처음에 시퀀스를 두 번 조회)
+        saveAndFlush(1);
+        saveAndFlush(1);
+
+        long fewOptions = preparedStatementsToSave(2);
+        long manyOptions = preparedStatementsToSave(40);
+
+        // 옵션 INSERT는 옵션 수와 관계없이 한 번의 배치로 전송 (votes 1건 + vote_options 배치 1건)
+        assertThat(fewOptions).isEqualTo(2);
+        assertThat(manyOptions).isEqualTo(fewOptions);
+    }
+
+    @Test
+    void votesSavedTogetherShareOneBatchPerTable() {
+        saveAndFlush(1);
+        saveAndFlush(1);
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            votes.add(newVote(3));
+        }
+        voteRepository.saveAll(votes);
+        entityManager.flush();
+
+        // 20개 투표(옵션 60개)를 시퀀스 블록 조회(테이블별 최대 1회) + 테이블별 배치 1건으로 저장
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    private long preparedStatementsToSave(int optionCount) {
+        Statistics statistics = statistics();
+        statistics.clear();
+        saveAndFlush(optionCount);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveAndFlush(int optionCount) {
+        voteRepository.save(newVote(optionCount));
+        entityManager.flush();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static Vote newVote(int optionCount) {
+        Vote vote = new Vote();
+        vote.setQuestion("question");
+        vote.setActive(true);
+        List<VoteOption> options = new ArrayList<>();
+        for (int i = 0; i < optionCount; i++) {
+            VoteOption option = new VoteOption();
+            option.setOptionText("option " + i);
+            option.setVoteCount(0);
+            option.setVote(vote);
+            options.add(option);
+        }
+        vote.setOptions(options);
+        return vote;
+    }
+}
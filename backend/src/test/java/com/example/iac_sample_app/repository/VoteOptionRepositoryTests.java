@@ -0,0 +1,86 @@
+package com.example.iac_sample_app.repository;
+
+import com.example.iac_sample_app.entity.Vote;
+import com.example.iac_sample_app.entity.VoteOption;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class VoteOptionRepositoryTests {
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private VoteOptionRepository voteOptionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void incrementsOptionAndTotalOfActiveVote() {
+        Vote vote = save(true);
+        Long optionId = vote.getOptions().get(1).getId();
+
+        assertThat(voteOptionRepository.incrementVoteCounts(vote.getId(), optionId)).isEqualTo(1);
+
+        Vote reloaded = reload(vote);
+        assertThat(reloaded.getTotalVotes()).isEqualTo(1);
+        assertThat(reloaded.getOptions().get(0).getVoteCount()).isZero();
+        assertThat(reloaded.getOptions().get(1).getVoteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void inactiveVoteIsNotIncremented() {
+        Vote vote = save(false);
+
+        assertThat(voteOptionRepository.incrementVoteCounts(vote.getId(), vote.getOptions().get(0).getId())).isZero();
+
+        Vote reloaded = reload(vote);
+        assertThat(reloaded.getTotalVotes()).isZero();
+        assertThat(reloaded.getOptions().get(0).getVoteCount()).isZero();
+    }
+
+    @Test
+    void optionOfAnotherVoteLeavesTotalUnchanged() {
+        Vote vote = save(true);
+        Vote other = save(true);
+
+        // 투표 행을 먼저 증가시키므로, 옵션이 맞지 않으면 총 투표수를 되돌려야 함
+        assertThat(voteOptionRepository.incrementVoteCounts(vote.getId(), other.getOptions().get(0).getId())).isZero();
+
+        assertThat(reload(vote).getTotalVotes()).isZero();
+        assertThat(reload(other).getOptions().get(0).getVoteCount()).isZero();
+    }
+
+    private Vote save(boolean active) {
+        Vote vote = new Vote();
+        vote.setQuestion("question");
+        vote.setActive(active);
+        List<VoteOption> options = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            VoteOption option = new VoteOption();
+            option.setOptionText("option " + i);
+            option.setVoteCount(0);
+            option.setVote(vote);
+            options.add(option);
+        }
+        vote.setOptions(options);
+        voteRepository.save(vote);
+        entityManager.flush();
+        return vote;
+    }
+
+    // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 비운 뒤 다시 조회
+    private Vote reload(Vote vote) {
+        entityManager.clear();
+        return voteRepository.findByIdWithOptions(vote.getId());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.iac_sample_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTests {
+
+    @Test
+    void neverMissesAddedElementsAndKeepsFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(42);
+
+        long[][] added = new long[10_000][];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = new long[]{random.nextLong(), random.nextLong()};
+            filter.put(added[i][0], added[i][1]);
+        }
+        for (long[] hashes : added) {
+            assertThat(filter.mightContain(hashes[0], hashes[1])).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        // 오탐률 1% 설정 (여유를 두고 2% 이내 확인)
+        assertThat(falsePositives).isLessThan(200);
+    }
+}
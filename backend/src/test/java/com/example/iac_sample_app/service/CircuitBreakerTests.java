@@ -0,0 +1,108 @@
+package com.example.iac_sample_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class CircuitBreakerTests {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsWithoutCalling() {
+        CircuitBreaker breaker = new CircuitBreaker("ec2", 3, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.execute(this::failing)).isCompletedExceptionally();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.execute(this::succeeding)).isCompletedExceptionally();
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("alb", 3, 60_000);
+
+        breaker.execute(this::failing);
+        breaker.execute(this::failing);
+        breaker.execute(this::succeeding);
+        breaker.execute(this::failing);
+        breaker.execute(this::failing);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void synchronousExceptionCountsAsFailure() {
+        CircuitBreaker breaker = new CircuitBreaker("rds", 1, 60_000);
+
+        CompletableFuture<String> result = breaker.execute(() -> {
+            throw new IllegalStateException("SDK 호출 실패");
+        });
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialAndClosesOnSuccess() {
+        CircuitBreaker breaker = openBreaker("s3");
+        CompletableFuture<String> trial = new CompletableFuture<>();
+
+        CompletableFuture<String> first = breaker.execute(() -> {
+            calls.incrementAndGet();
+            return trial;
+        });
+        // 시험 호출이 끝나기 전에는 다른 호출을 보내지 않음
+        CompletableFuture<String> second = breaker.execute(this::succeeding);
+
+        assertThat(second).isCompletedExceptionally();
+        assertThat(calls.get()).isEqualTo(2);
+
+        trial.complete("ok");
+
+        assertThat(first.join()).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.execute(this::succeeding).join()).isEqualTo("ok");
+    }
+
+    @Test
+    void failedTrialReopensImmediately() {
+        CircuitBreaker breaker = openBreaker("cloudfront");
+
+        assertThat(breaker.execute(this::failing)).isCompletedExceptionally();
+
+        // 임계치와 관계없이 시험 호출 한 번의 실패로 다시 차단
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.execute(this::succeeding)).isCompletedExceptionally();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    // 한 번 실패로 열리고 짧은 차단 시간이 지나 시험 호출을 기다리는 차단기
+    private CircuitBreaker openBreaker(String name) {
+        CircuitBreaker breaker = new CircuitBreaker(name, 1, 300);
+        breaker.execute(this::failing);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> breaker.getState() == CircuitBreaker.State.HALF_OPEN);
+        return breaker;
+    }
+
+    private CompletableFuture<String> failing() {
+        calls.incrementAndGet();
+        return CompletableFuture.failedFuture(new RuntimeException("Throttling"));
+    }
+
+    private CompletableFuture<String> succeeding() {
+        calls.incrementAndGet();
+        return CompletableFuture.completedFuture("ok");
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.iac_sample_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTests {
+
+    @Test
+    void estimatesDistinctCountWithinStandardError() {
+        HyperLogLog sketch = new HyperLogLog(11);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(random.nextLong());
+        }
+        // 표준 오차 약 2.3% (여유를 두고 7% 이내 확인)
+        assertThat(sketch.estimate()).isCloseTo(100_000L, within(7_000L));
+    }
+
+    @Test
+    void mergeMatchesSingleSketchAndIgnoresDuplicates() {
+        HyperLogLog first = new HyperLogLog(11);
+        HyperLogLog second = new HyperLogLog(11);
+        HyperLogLog all = new HyperLogLog(11);
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 5_000; i++) {
+            long hash = random.nextLong();
+            (i % 2 == 0 ? first : second).add(hash);
+            all.add(hash);
+        }
+
+        HyperLogLog merged = HyperLogLog.fromBytes(first.toBytes());
+        merged.merge(second);
+        merged.merge(second);
+
+        assertThat(merged.toBytes()).isEqualTo(all.toBytes());
+        assertThat(merged.estimate()).isEqualTo(all.estimate());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.VoteResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryVoteEngineTests {
+
+    private final InMemoryVoteEngine engine = new InMemoryVoteEngine("memory");
+
+    @Test
+    void concurrentCastsAreNotLost() throws InterruptedException {
+        VoteTally tally = engine.create("질문", "설명", List.of("A", "B"));
+
+        int threads = 8;
+        int castsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            long optionId = t % 2 + 1;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < castsPerThread; i++) {
+                    engine.cast(tally.getId(), optionId);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        VoteResponse response = engine.toVoteResponse(tally);
+        assertThat(response.getTotalVotes()).isEqualTo(threads * castsPerThread);
+        assertThat(tally.getVoteCount(0)).isEqualTo(tally.getVoteCount(1));
+    }
+
+    @Test
+    void registryGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 200; i++) {
+            engine.create("질문 " + i, null, List.of("A", "B"));
+        }
+
+        assertThat(engine.findAll()).hasSize(200);
+        assertThat(engine.find(200).getQuestion()).isEqualTo("질문 199");
+        assertThat(engine.find(201)).isNull();
+    }
+
+    @Test
+    void hybridEngineKeepsSparseDatabaseIdsInMap() {
+        InMemoryVoteEngine hybrid = new InMemoryVoteEngine("hybrid");
+        long[] ids = {1_000_051L, 51L, 1L};
+        for (long id : ids) {
+            hybrid.register(new VoteTally(id, "질문 " + id, null, new Date(),
+                    new long[]{id * 10, id * 10 + 1}, List.of("A", "B"), new long[]{0, 0}, true));
+        }
+
+        assertThat(hybrid.findAll()).extracting(VoteTally::getId).containsExactly(1L, 51L, 1_000_051L);
+        assertThat(hybrid.find(1_000_051L).getQuestion()).isEqualTo("질문 1000051");
+        assertThat(hybrid.find(2)).isNull();
+
+        hybrid.cast(1_000_051L, 10_000_511L);
+        assertThat(hybrid.toVoteResponse(hybrid.find(1_000_051L)).getTotalVotes()).isEqualTo(1);
+    }
+
+    @Test
+    void inactiveVoteLoadedFromDatabaseStaysInactive() {
+        InMemoryVoteEngine hybrid = new InMemoryVoteEngine("hybrid");
+        hybrid.register(new VoteTally(7L, "종료된 질문", null, new Date(),
+                new long[]{70, 71}, List.of("A", "B"), new long[]{3, 1}, false));
+        hybrid.register(new VoteTally(8L, "진행 중 질문", null, new Date(),
+                new long[]{80, 81}, List.of("A", "B"), new long[]{0, 0}, true));
+
+        assertThat(hybrid.toVoteResponse(hybrid.find(7L)).isActive()).isFalse();
+        assertThat(hybrid.findActiveBefore(null, 10)).extracting(VoteTally::getId).containsExactly(8L);
+    }
+
+    @Test
+    void invalidOptionIsRejected() {
+        VoteTally tally = engine.create("질문", null, List.of("A", "B"));
+
+        assertThatThrownBy(() -> engine.cast(tally.getId(), 3))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.iac_sample_app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticmq.rest.sqs.SQSRestServer;
+import org.elasticmq.rest.sqs.SQSRestServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ec2.model.InstanceStateName;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내장 ElasticMQ(SQS 호환 서버)로 수신 -> 스냅샷 반영 -> 삭제 흐름을 확인
+ */
+class InfrastructureEventConsumerTests {
+
+    private final InfrastructureSnapshotService snapshotService = mock(InfrastructureSnapshotService.class);
+
+    private SQSRestServer server;
+    private SqsAsyncClient sqsClient;
+    private String queueUrl;
+    private InfrastructureEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        server = SQSRestServerBuilder.withDynamicPort().withInterface("localhost").start();
+        int port = server.waitUntilStarted().localAddress().getPort();
+
+        sqsClient = SqsAsyncClient.builder()
+                .endpointOverride(URI.create("http://localhost:" + port))
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+        // 처리에 실패한 메시지가 테스트 중에 다시 수신되지 않도록 가시성 제한 시간을 길게 설정
+        queueUrl = sqsClient.createQueue(CreateQueueRequest.builder()
+                        .queueName("infra-events")
+                        .attributes(Map.of(QueueAttributeName.VISIBILITY_TIMEOUT, "60"))
+                        .build())
+                .join()
+                .queueUrl();
+
+        consumer = new InfrastructureEventConsumer(sqsClient, snapshotService, new ObjectMapper(),
+                queueUrl, 1, 10, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.stop();
+        sqsClient.close();
+        server.stopAndWait();
+    }
+
+    @Test
+    void eventsAreAppliedAndProcessedMessagesDeleted() {
+        when(snapshotService.patchEc2InstanceState("i-known", InstanceStateName.STOPPED)).thenReturn(true);
+
+        send(ec2Event("i-known", "stopped"));
+        send(ec2Event("i-unknown", "running"));
+        send("{\"source\":\"aws.elasticloadbalancing\",\"detail\":{}}");
+        // SNS를 거쳐 전달된 이벤트
+        send("{\"Type\":\"Notification\",\"Message\":\"{\\\"source\\\":\\\"aws.rds\\\",\\\"detail\\\":{}}\"}");
+        send("not json");
+
+        consumer.start();
+
+        // 스냅샷에 있는 인스턴스는 상태만 반영하고, 모르는 인스턴스와 ALB/RDS 이벤트는 섹션을 다시 조회
+        verify(snapshotService, timeout(10_000)).patchEc2InstanceState("i-known", InstanceStateName.STOPPED);
+        verify(snapshotService, timeout(10_000)).patchEc2InstanceState("i-unknown", InstanceStateName.RUNNING);
+        verify(snapshotService, timeout(10_000)).refreshEc2();
+        verify(snapshotService, timeout(10_000)).refreshAlb();
+        verify(snapshotService, timeout(10_000)).refreshRds();
+
+        // 처리한 메시지만 삭제되고, 해석할 수 없는 메시지는 가시성 제한 시간 후 재수신되도록 남음
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(attribute(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)).isZero();
+            assertThat(attribute(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE)).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void ignoredSourcesAreDeletedWithoutRefresh() {
+        send("{\"source\":\"aws.s3\",\"detail\":{}}");
+        send(ec2Event(null, "running"));
+
+        consumer.start();
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(attribute(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)).isZero();
+            assertThat(attribute(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE)).isZero();
+        });
+        verify(snapshotService, never()).patchEc2InstanceState(anyString(), eq(InstanceStateName.RUNNING));
+        verify(snapshotService, never()).refreshEc2();
+    }
+
+    private static String ec2Event(String instanceId, String state) {
+        String id = instanceId != null ? "\"instance-id\":\"" + instanceId + "\"," : "";
+        return "{\"source\":\"aws.ec2\",\"detail\":{" + id + "\"state\":\"" + state + "\"}}";
+    }
+
+    private void send(String body) {
+        sqsClient.sendMessage(SendMessageRequest.builder()
+                        .queueUrl(queueUrl)
+                        .messageBody(body)
+                        .build())
+                .join();
+    }
+
+    private int attribute(QueueAttributeName name) {
+        return Integer.parseInt(sqsClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                        .queueUrl(queueUrl)
+                        .attributeNames(name)
+                        .build())
+                .join()
+                .attributes()
+                .get(name));
+    }
+}
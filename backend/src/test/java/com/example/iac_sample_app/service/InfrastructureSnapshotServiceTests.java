@@ -0,0 +1,143 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.dto.InfrastructureStatusResponse;
+import com.example.iac_sample_app.dto.RDSInfoDto;
+import com.example.iac_sample_app.dto.S3InfoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 수집 결과 반영 시 버전 증가 규칙과 변경 섹션 조회를 확인
+ * (수집기는 완료된 future를 돌려주므로 refresh 호출이 끝나면 스냅샷에 반영되어 있음)
+ */
+class InfrastructureSnapshotServiceTests {
+
+    private final AwsResourceService awsResourceService = mock(AwsResourceService.class);
+    private final InfrastructureEventPublisher eventPublisher = mock(InfrastructureEventPublisher.class);
+    private final InfrastructureSnapshotService service =
+            new InfrastructureSnapshotService(awsResourceService, eventPublisher);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "collectorTimeoutMs", 30_000L);
+        when(awsResourceService.getCircuitBreakerStates()).thenReturn(Map.of());
+    }
+
+    @Test
+    void unchangedRefreshKeepsVersion() {
+        when(awsResourceService.getS3Info()).thenAnswer(invocation -> completed(bucket("votes")));
+
+        service.refreshS3();
+        InfrastructureStatusResponse first = service.getSnapshot();
+        service.refreshS3();
+        InfrastructureStatusResponse second = service.getSnapshot();
+
+        // 갱신 시각만 바뀐 경우 버전과 섹션 버전을 유지하고 변경 이벤트도 발행하지 않음
+        assertThat(second.getVersion()).isEqualTo(first.getVersion());
+        assertThat(second.getSectionVersions()).isEqualTo(first.getSectionVersions());
+        assertThat(second.getSectionUpdatedAt()).containsKey("s3");
+        verify(eventPublisher, times(1)).publish(anyList());
+    }
+
+    @Test
+    void changedSectionBumpsVersion() {
+        when(awsResourceService.getS3Info())
+                .thenReturn(completed(bucket("votes")), completed(bucket("votes-renamed")));
+
+        long initial = service.getSnapshot().getVersion();
+        service.refreshS3();
+        long first = service.getSnapshot().getVersion();
+        service.refreshS3();
+        InfrastructureStatusResponse second = service.getSnapshot();
+
+        assertThat(first).isEqualTo(initial + 1);
+        assertThat(second.getVersion()).isEqualTo(first + 1);
+        assertThat(second.getSectionVersions()).containsEntry("s3", second.getVersion());
+        assertThat(second.getStorage().getBucketName()).isEqualTo("votes-renamed");
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousValueWithoutSectionVersion() {
+        when(awsResourceService.getS3Info())
+                .thenReturn(completed(bucket("votes")), CompletableFuture.failedFuture(new RuntimeException("Throttling")));
+
+        service.refreshS3();
+        InfrastructureStatusResponse before = service.getSnapshot();
+        service.refreshS3();
+        InfrastructureStatusResponse after = service.getSnapshot();
+
+        // 오류 표시는 상태 변경이므로 버전은 오르지만, 섹션 내용은 그대로이므로 섹션 버전은 유지
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getSectionVersions()).isEqualTo(before.getSectionVersions());
+        assertThat(after.getSectionErrors()).containsEntry("s3", "Throttling");
+        assertThat(after.getStorage()).isEqualTo(bucket("votes"));
+    }
+
+    @Test
+    void changesSinceContainsOnlySectionsChangedAfterVersion() {
+        when(awsResourceService.getS3Info()).thenReturn(completed(bucket("votes")));
+        when(awsResourceService.getRDSInfo()).thenReturn(completed(database("voting-db")));
+
+        long initial = service.getSnapshot().getVersion();
+        service.refreshS3();
+        long afterS3 = service.getSnapshot().getVersion();
+        service.refreshRds();
+        long afterRds = service.getSnapshot().getVersion();
+
+        InfrastructureStatusResponse sinceS3 = service.getChangesSince(afterS3);
+        assertThat(sinceS3.getChangedSections()).containsExactly("rds");
+        assertThat(sinceS3.getDatabase()).isEqualTo(database("voting-db"));
+        assertThat(sinceS3.getStorage()).isNull();
+
+        assertThat(service.getChangesSince(initial).getChangedSections()).containsExactly("rds", "s3");
+
+        InfrastructureStatusResponse latest = service.getChangesSince(afterRds);
+        assertThat(latest.getChangedSections()).isEmpty();
+        assertThat(latest.getDatabase()).isNull();
+        assertThat(latest.getStorage()).isNull();
+    }
+
+    @Test
+    void unknownFutureVersionReturnsAllSections() {
+        when(awsResourceService.getS3Info()).thenReturn(completed(bucket("votes")));
+        service.refreshS3();
+
+        // 재시작 전 버전처럼 현재보다 큰 버전은 전체 섹션으로 응답
+        InfrastructureStatusResponse changes = service.getChangesSince(service.getSnapshot().getVersion() + 100);
+
+        assertThat(changes.getChangedSections()).containsExactlyElementsOf(
+                List.of("ec2", "alb", "rds", "s3", "cloudfront", "vpc"));
+        assertThat(changes.getStorage()).isEqualTo(bucket("votes"));
+    }
+
+    private static <T> CompletableFuture<T> completed(T value) {
+        return CompletableFuture.completedFuture(value);
+    }
+
+    private static S3InfoDto bucket(String name) {
+        return S3InfoDto.builder()
+                .bucketName(name)
+                .region("ap-northeast-2")
+                .publicAccessStatus("private")
+                .build();
+    }
+
+    private static RDSInfoDto database(String identifier) {
+        return RDSInfoDto.builder()
+                .identifier(identifier)
+                .port(3306)
+                .build();
+    }
+}
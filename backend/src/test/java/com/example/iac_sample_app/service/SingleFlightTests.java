@@ -0,0 +1,59 @@
+package com.example.iac_sample_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTests {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void concurrentCallersShareOneCall() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.execute("ec2", () -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = singleFlight.execute("ec2", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        pending.complete("result");
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(second.join()).isEqualTo("result");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void callerTimeoutDoesNotFailOtherCallers() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> impatient = singleFlight.execute("alb", () -> pending)
+                .orTimeout(1, TimeUnit.MILLISECONDS);
+        CompletableFuture<String> patient = singleFlight.execute("alb", () -> pending);
+
+        assertThat(impatient).failsWithin(1, TimeUnit.SECONDS);
+        pending.complete("result");
+        assertThat(patient.join()).isEqualTo("result");
+    }
+
+    @Test
+    void completedCallIsNotReused() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("rds", () -> CompletableFuture.completedFuture(calls.incrementAndGet())).join();
+        singleFlight.execute("rds", () -> CompletableFuture.completedFuture(calls.incrementAndGet())).join();
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
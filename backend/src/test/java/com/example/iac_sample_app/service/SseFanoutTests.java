@@ -0,0 +1,81 @@
+package com.example.iac_sample_app.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class SseFanoutTests {
+
+    private final SseFanout fanout = new SseFanout("test-send", 2, 3);
+
+    @AfterEach
+    void tearDown() {
+        fanout.shutdown();
+    }
+
+    @Test
+    void stuckSubscriberIsDroppedWithoutBlockingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stuck = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        AtomicBoolean stuckDropped = new AtomicBoolean();
+        fanout.register(stuck, () -> stuckDropped.set(true));
+        fanout.register(healthy, () -> { });
+
+        for (int i = 0; i < 10; i++) {
+            Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event().data("event-" + i).build();
+            // 발행 스레드는 대기하지 않고 바로 반환
+            fanout.send(stuck, event);
+            fanout.send(healthy, event);
+
+            int expected = i + 1;
+            await().atMost(5, TimeUnit.SECONDS).until(() -> healthy.sent.size() == expected);
+        }
+        assertThat(stuckDropped).isTrue();
+
+        // 진행 중이던 전송이 끝나면 밀린 구독자의 연결을 닫음
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> stuck.completed);
+        assertThat(stuck.sent).hasSizeLessThanOrEqualTo(3);
+        assertThat(healthy.completed).isFalse();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(items);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.iac_sample_app.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteCastLogTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restoresFromSnapshotAndLogTail() throws Exception {
+        InMemoryVoteEngine engine = new InMemoryVoteEngine("memory");
+        // 세그먼트당 레코드 4개로 설정해 교체/삭제도 함께 확인
+        VoteCastLog castLog = newLog(engine, 4 * VoteCastLog.RECORD_SIZE);
+        castLog.start();
+
+        VoteTally first = create(engine, castLog, "첫 투표");
+        VoteTally second = create(engine, castLog, "두 번째 투표");
+        cast(castLog, first, 1, 5);
+        castLog.snapshot();
+        cast(castLog, first, 2, 3);
+        cast(castLog, second, 1, 6);
+
+        // 종료 훅 없이 중단된 경우를 가정 (마지막 스냅샷 이후 레코드는 로그 재생으로 복구)
+        InMemoryVoteEngine restored = new InMemoryVoteEngine("memory");
+        newLog(restored, 4 * VoteCastLog.RECORD_SIZE).start();
+
+        assertThat(restored.findAll()).hasSize(2);
+        assertThat(restored.find(first.getId()).getVoteCount(0)).isEqualTo(5);
+        assertThat(restored.find(first.getId()).getVoteCount(1)).isEqualTo(3);
+        assertThat(restored.find(second.getId()).getVoteCount(0)).isEqualTo(6);
+        assertThat(restored.find(second.getId()).getQuestion()).isEqualTo("두 번째 투표");
+    }
+
+    private VoteCastLog newLog(InMemoryVoteEngine engine, int segmentSizeBytes) {
+        return new VoteCastLog(engine, directory.toString(), segmentSizeBytes, "interval", 5);
+    }
+
+    private VoteTally create(InMemoryVoteEngine engine, VoteCastLog castLog, String question) {
+        VoteTally tally = engine.create(question, null, List.of("A", "B"));
+        castLog.recordCreate(tally);
+        return tally;
+    }
+
+    private void cast(VoteCastLog castLog, VoteTally tally, long optionId, int times) {
+        for (int i = 0; i < times; i++) {
+            castLog.recordCast(tally.getId(), optionId, () -> tally.increment(optionId));
+        }
+    }
+}
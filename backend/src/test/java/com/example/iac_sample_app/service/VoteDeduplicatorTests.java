@@ -0,0 +1,104 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.repository.VoteCastRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteDeduplicatorTests {
+
+    private final VoteCastRepository repository = mock(VoteCastRepository.class);
+    private final AtomicInteger casts = new AtomicInteger();
+
+    @Test
+    void firstCastPassesFilterWithoutLookup() {
+        VoteDeduplicator deduplicator = deduplicator(10_000, 0.01);
+
+        assertThat(deduplicator.castOnce(1L, 10L, "voter-a", casts::incrementAndGet)).isEqualTo(1);
+
+        verify(repository, never()).existsByVoteIdAndVoterKey(anyLong(), anyString());
+        verify(repository).insertCast(eq(1L), anyString(), eq(10L));
+    }
+
+    @Test
+    void falsePositiveIsCheckedInDatabaseAndAllowed() {
+        // 64비트 필터를 가득 채워 처음 보는 투표자도 필터에 걸리게 함
+        VoteDeduplicator deduplicator = deduplicator(1, 0.5);
+        for (int i = 0; i < 1_000; i++) {
+            deduplicator.castOnce(1L, 10L, "filler-" + i, casts::incrementAndGet);
+        }
+        clearInvocations(repository);
+
+        deduplicator.castOnce(1L, 10L, "voter-a", casts::incrementAndGet);
+
+        verify(repository, times(1)).existsByVoteIdAndVoterKey(eq(1L), anyString());
+        assertThat(casts).hasValue(1_001);
+    }
+
+    @Test
+    void duplicateIsRejectedWithConflictAndRemembered() {
+        VoteDeduplicator deduplicator = deduplicator(10_000, 0.01);
+        deduplicator.castOnce(1L, 10L, "voter-a", casts::incrementAndGet);
+        when(repository.existsByVoteIdAndVoterKey(eq(1L), anyString())).thenReturn(true);
+
+        assertConflict(() -> deduplicator.castOnce(1L, 10L, "voter-a", casts::incrementAndGet));
+        assertConflict(() -> deduplicator.castOnce(1L, 11L, "voter-a", casts::incrementAndGet));
+
+        // 두 번째 거절은 DB 조회 없이 처리
+        verify(repository, times(1)).existsByVoteIdAndVoterKey(eq(1L), anyString());
+        assertThat(casts).hasValue(1);
+    }
+
+    @Test
+    void concurrentDuplicateIsRejectedByPrimaryKey() {
+        // 다른 인스턴스가 먼저 기록해 필터는 통과했지만 INSERT가 기본 키 중복으로 실패하는 경우
+        VoteDeduplicator deduplicator = deduplicator(10_000, 0.01);
+        when(repository.insertCast(eq(1L), anyString(), eq(10L))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertConflict(() -> deduplicator.castOnce(1L, 10L, "voter-a", casts::incrementAndGet));
+        assertConflict(() -> deduplicator.castOnce(1L, 10L, "voter-a", casts::incrementAndGet));
+
+        verify(repository, times(1)).insertCast(eq(1L), anyString(), eq(10L));
+        assertThat(casts).hasValue(0);
+    }
+
+    @Test
+    void failedCastRemovesRecordSoVoterCanRetry() {
+        VoteDeduplicator deduplicator = deduplicator(10_000, 0.01);
+
+        assertThatThrownBy(() -> deduplicator.castOnce(1L, 10L, "voter-a", () -> {
+            throw new IllegalStateException("cast failed");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(repository).deleteCast(eq(1L), anyString());
+
+        // 필터에는 남아 있으므로 DB에서 기록이 없는 것을 확인하고 통과
+        assertThat(deduplicator.castOnce(1L, 10L, "voter-a", casts::incrementAndGet)).isEqualTo(1);
+        verify(repository).existsByVoteIdAndVoterKey(eq(1L), anyString());
+        verify(repository, times(2)).insertCast(eq(1L), anyString(), eq(10L));
+    }
+
+    private VoteDeduplicator deduplicator(long expectedVotersPerVote, double falsePositiveRate) {
+        return new VoteDeduplicator(repository, true, expectedVotersPerVote, falsePositiveRate, 100, 1_000);
+    }
+
+    private static void assertConflict(Runnable cast) {
+        assertThatThrownBy(cast::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+}
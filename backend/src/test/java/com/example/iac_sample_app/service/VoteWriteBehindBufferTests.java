@@ -0,0 +1,176 @@
+package com.example.iac_sample_app.service;
+
+import com.example.iac_sample_app.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * H2에 JdbcTemplate으로 반영하며 합산/배치/재시도/종료 시 반영을 확인
+ */
+class VoteWriteBehindBufferTests {
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:write-behind-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(dataSource);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.VOTE_DETAILS_CACHE);
+
+    private VoteWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE votes (id BIGINT PRIMARY KEY, total_votes INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE vote_options (id BIGINT PRIMARY KEY, vote_id BIGINT NOT NULL, vote_count INT NOT NULL)");
+        jdbcTemplate.execute("INSERT INTO votes VALUES (1, 0), (2, 0)");
+        jdbcTemplate.execute("INSERT INTO vote_options VALUES (11, 1, 0), (12, 1, 0), (21, 2, 0)");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void castsAreCoalescedPerRowAndFlushedInOneBatch() {
+        // 주기보다 먼저 배치 크기만큼 모이면 바로 반영 (종료 시 남은 주기만큼 기다리므로 너무 길게 두지 않음)
+        buffer = buffer(100, 2_000, 10);
+        buffer.start();
+
+        cast(1L, 11L, 6);
+        cast(1L, 12L, 3);
+        cast(2L, 21L, 1);
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(optionCount(11)).isEqualTo(6));
+        assertThat(optionCount(12)).isEqualTo(3);
+        assertThat(optionCount(21)).isEqualTo(1);
+        assertThat(totalVotes(1)).isEqualTo(9);
+        assertThat(totalVotes(2)).isEqualTo(1);
+
+        // 투표 10건이 옵션 3행, 투표 2행의 UPDATE 배치 하나씩으로 반영됨
+        assertThat(jdbcTemplate.batchSizes).containsExactlyInAnyOrder(3, 2);
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(buffer.pendingCount(11L)).isZero());
+    }
+
+    @Test
+    void failedFlushIsRolledBackAndRetried() {
+        // 같은 트랜잭션의 두 번째 UPDATE가 한 번 실패하면 첫 번째 UPDATE도 롤백되어야 이중 반영되지 않음
+        jdbcTemplate.failAtCall = 2;
+        buffer = buffer(100, 50, 500);
+        buffer.start();
+
+        cast(1L, 11L, 2);
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(buffer.pendingCount(11L)).isZero());
+        assertThat(jdbcTemplate.calls.get()).isGreaterThanOrEqualTo(4);
+        assertThat(optionCount(11)).isEqualTo(2);
+        assertThat(totalVotes(1)).isEqualTo(2);
+    }
+
+    @Test
+    void remainingCastsAreFlushedOnShutdown() throws InterruptedException {
+        Cache cache = cacheManager.getCache(CacheConfig.VOTE_DETAILS_CACHE);
+        cache.put(1L, "반영 전 상세");
+        // flusher 없이 적재만 해 두고 종료 시 반영되는지 확인
+        buffer = buffer(100, 60_000, 500);
+        List<Long> flushedVoteIds = new CopyOnWriteArrayList<>();
+        buffer.addFlushListener(flushedVoteIds::addAll);
+
+        cast(1L, 11L, 2);
+        cast(1L, 12L, 1);
+        assertThat(buffer.pendingCount(11L)).isEqualTo(2);
+        assertThat(optionCount(11)).isZero();
+
+        buffer.shutdown();
+
+        assertThat(optionCount(11)).isEqualTo(2);
+        assertThat(optionCount(12)).isEqualTo(1);
+        assertThat(totalVotes(1)).isEqualTo(3);
+        assertThat(buffer.pendingCount(11L)).isZero();
+        assertThat(cache.get(1L)).isNull();
+        assertThat(flushedVoteIds).containsExactly(1L);
+
+        assertThatThrownBy(() -> buffer.enqueue(1L, 11L))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void fullQueueIsRejectedWithServiceUnavailable() {
+        buffer = buffer(1, 60_000, 500);
+
+        buffer.enqueue(1L, 11L);
+
+        assertThatThrownBy(() -> buffer.enqueue(1L, 12L))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        // 거절된 투표는 반영 대기 수에 남지 않음
+        assertThat(buffer.pendingCount(11L)).isEqualTo(1);
+        assertThat(buffer.pendingCount(12L)).isZero();
+    }
+
+    private VoteWriteBehindBuffer buffer(int queueCapacity, long flushIntervalMs, int batchSize) {
+        return new VoteWriteBehindBuffer(jdbcTemplate, new DataSourceTransactionManager(dataSource), cacheManager,
+                true, queueCapacity, flushIntervalMs, batchSize, 0);
+    }
+
+    private void cast(Long voteId, Long optionId, int times) {
+        for (int i = 0; i < times; i++) {
+            buffer.enqueue(voteId, optionId);
+        }
+    }
+
+    private int optionCount(long optionId) {
+        return jdbcTemplate.queryForObject("SELECT vote_count FROM vote_options WHERE id = ?", Integer.class, optionId);
+    }
+
+    private int totalVotes(long voteId) {
+        return jdbcTemplate.queryForObject("SELECT total_votes FROM votes WHERE id = ?", Integer.class, voteId);
+    }
+
+    // 배치 크기를 기록하고, 지정한 호출에서 한 번 실패하는 JdbcTemplate
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile int failAtCall;
+
+        private RecordingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            int[][] result = super.batchUpdate(sql, batchArgs, batchSize, pss);
+            if (calls.incrementAndGet() == failAtCall) {
+                throw new TransientDataAccessResourceException("테스트용 반영 실패");
+            }
+            batchSizes.add(batchArgs.size());
+            return result;
+        }
+    }
+}